@@ -0,0 +1,8 @@
+plugins {
+    java
+    alias(libs.plugins.internalConvention)
+}
+
+dependencies {
+    testImplementation(projects.lib)
+}
@@ -0,0 +1,274 @@
+package com.varlanv.konstraints.processor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Generates a {@code <Type>ValidationSpec} for every type annotated with
+ * {@code com.varlanv.konstraints.annotation.Validated}. Constraint annotations are read from the fields the type
+ * declares, in declaration order, and values are read through the record accessor, a {@code get}/{@code is} getter
+ * or the field itself, whichever is accessible from the same package.
+ *
+ * <p>Violations, their paths and messages are the same as those of the equivalent
+ * {@code Valid.validationSpec(...)} declaration.
+ */
+public final class KonstraintsProcessor extends AbstractProcessor {
+
+    private static final String ANNOTATIONS = "com.varlanv.konstraints.annotation.";
+    private static final String VALIDATED = ANNOTATIONS + "Validated";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // constraints are claimed as well, they mean nothing without @Validated
+        return Set.of(ANNOTATIONS + "*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        var validated = processingEnv.getElementUtils().getTypeElement(VALIDATED);
+        if (validated == null) {
+            return false;
+        }
+        for (var element : roundEnv.getElementsAnnotatedWith(validated)) {
+            try {
+                generate(element);
+            } catch (InvalidSpecException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+            }
+        }
+        return true;
+    }
+
+    private void generate(Element element) {
+        var kind = element.getKind();
+        if (kind != ElementKind.CLASS && !kind.name().equals("RECORD")) {
+            throw new InvalidSpecException(element, "@Validated is only supported on classes and records");
+        }
+        var type = (TypeElement) element;
+        if (type.getModifiers().contains(Modifier.PRIVATE)) {
+            throw new InvalidSpecException(element, "@Validated types must not be private");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new InvalidSpecException(element, "@Validated is not supported on generic types");
+        }
+        var fields = new ArrayList<SpecSource.Field>();
+        for (var field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)) {
+                var spec = field(type, field);
+                if (spec != null) {
+                    fields.add(spec);
+                }
+            }
+        }
+        var packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        var className = SpecSource.specName(simpleNames(type));
+        var source = new SpecSource(packageName, type.getQualifiedName().toString(), className, fields).render();
+        try {
+            var qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+            try (var writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            throw new InvalidSpecException(element, "Failed to write " + className + ": " + e.getMessage());
+        }
+    }
+
+    private SpecSource.@Nullable Field field(TypeElement owner, VariableElement field) {
+        var fieldType = field.asType();
+        var primitive = fieldType.getKind().isPrimitive();
+        var notNull = false;
+        var constrained = false;
+        var checks = new ArrayList<SpecSource.Check>();
+        for (var mirror : field.getAnnotationMirrors()) {
+            var name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (!name.startsWith(ANNOTATIONS)) {
+                continue;
+            }
+            constrained = true;
+            switch (name.substring(ANNOTATIONS.length())) {
+                case "NotNull":
+                    if (primitive) {
+                        throw new InvalidSpecException(field, "@NotNull is not supported on primitive fields");
+                    }
+                    notNull = true;
+                    break;
+                case "NotEmpty":
+                    requireCharSequence(field, "@NotEmpty");
+                    checks.add(SpecSource.Check.of(SpecSource.Kind.NOT_EMPTY, "must not be empty"));
+                    break;
+                case "NotBlank":
+                    requireCharSequence(field, "@NotBlank");
+                    checks.add(SpecSource.Check.of(SpecSource.Kind.NOT_BLANK, "must not be blank"));
+                    break;
+                case "Length":
+                    requireCharSequence(field, "@Length");
+                    checks.add(length(field, mirror));
+                    break;
+                case "Matches":
+                    requireCharSequence(field, "@Matches");
+                    var regex = (String) value(mirror, "value");
+                    try {
+                        Pattern.compile(regex);
+                    } catch (PatternSyntaxException e) {
+                        throw new InvalidSpecException(field, "@Matches has an invalid pattern: " + e.getDescription());
+                    }
+                    checks.add(SpecSource.Check.matches(regex));
+                    break;
+                case "Min":
+                    requireIntegral(field, "@Min");
+                    checks.add(SpecSource.Check.min((Long) value(mirror, "value")));
+                    break;
+                case "Max":
+                    requireIntegral(field, "@Max");
+                    checks.add(SpecSource.Check.max((Long) value(mirror, "value")));
+                    break;
+                case "Nested":
+                    checks.add(SpecSource.Check.nested(nestedSpec(field)));
+                    break;
+                default:
+                    constrained = false;
+            }
+        }
+        if (!constrained) {
+            return null;
+        }
+        var fieldName = field.getSimpleName().toString();
+        return new SpecSource.Field(fieldName, accessor(owner, field), notNull, !primitive, checks);
+    }
+
+    private SpecSource.Check length(VariableElement field, AnnotationMirror mirror) {
+        var min = (Integer) value(mirror, "min");
+        var max = (Integer) value(mirror, "max");
+        if (min < 0 || min > max) {
+            throw new InvalidSpecException(field, "@Length needs 0 <= min <= max");
+        }
+        String message;
+        if (min.equals(max)) {
+            message = "length must be " + min;
+        } else if (max == Integer.MAX_VALUE) {
+            message = "length must be at least " + min;
+        } else if (min == 0) {
+            message = "length must be at most " + max;
+        } else {
+            message = "length must be between " + min + " and " + max;
+        }
+        return SpecSource.Check.length(min, max, message);
+    }
+
+    private String nestedSpec(VariableElement field) {
+        var fieldType = field.asType();
+        if (fieldType.getKind() == TypeKind.DECLARED) {
+            var nested = (TypeElement) ((DeclaredType) fieldType).asElement();
+            for (var mirror : nested.getAnnotationMirrors()) {
+                var name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName();
+                if (name.contentEquals(VALIDATED)) {
+                    var packageName = processingEnv.getElementUtils().getPackageOf(nested).getQualifiedName();
+                    var className = SpecSource.specName(simpleNames(nested));
+                    return packageName.length() == 0 ? className : packageName + "." + className;
+                }
+            }
+        }
+        throw new InvalidSpecException(field, "@Nested is only supported on fields of @Validated types");
+    }
+
+    private String accessor(TypeElement owner, VariableElement field) {
+        var name = field.getSimpleName().toString();
+        var capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        var candidates = owner.getKind().name().equals("RECORD")
+                ? List.of(name)
+                : List.of("get" + capitalized, "is" + capitalized, name);
+        var methods = ElementFilter.methodsIn(owner.getEnclosedElements());
+        for (var candidate : candidates) {
+            for (ExecutableElement method : methods) {
+                if (method.getSimpleName().contentEquals(candidate)
+                        && method.getParameters().isEmpty()
+                        && !method.getModifiers().contains(Modifier.PRIVATE)
+                        && !method.getModifiers().contains(Modifier.STATIC)
+                        && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                    return candidate + "()";
+                }
+            }
+        }
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return name;
+        }
+        throw new InvalidSpecException(field, "No accessor of [" + name + "] is visible from the generated spec");
+    }
+
+    private void requireCharSequence(VariableElement field, String annotation) {
+        var charSequence = processingEnv.getElementUtils().getTypeElement("java.lang.CharSequence").asType();
+        if (!processingEnv.getTypeUtils().isAssignable(field.asType(), charSequence)) {
+            throw new InvalidSpecException(field, annotation + " is only supported on CharSequence fields");
+        }
+    }
+
+    private void requireIntegral(VariableElement field, String annotation) {
+        TypeMirror type = field.asType();
+        if (!type.getKind().isPrimitive()) {
+            try {
+                type = processingEnv.getTypeUtils().unboxedType(type);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidSpecException(field, annotation + " is only supported on integral fields");
+            }
+        }
+        var kind = type.getKind();
+        if (kind != TypeKind.BYTE && kind != TypeKind.SHORT && kind != TypeKind.INT && kind != TypeKind.LONG) {
+            throw new InvalidSpecException(field, annotation + " is only supported on integral fields");
+        }
+    }
+
+    private Object value(AnnotationMirror mirror, String name) {
+        var values = processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+        for (var entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        throw new IllegalStateException("No value [" + name + "] in " + mirror);
+    }
+
+    private static String simpleNames(TypeElement type) {
+        var enclosing = type.getEnclosingElement();
+        if (enclosing instanceof TypeElement) {
+            return simpleNames((TypeElement) enclosing) + "." + type.getSimpleName();
+        }
+        return type.getSimpleName().toString();
+    }
+
+    private static final class InvalidSpecException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Element element;
+
+        InvalidSpecException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
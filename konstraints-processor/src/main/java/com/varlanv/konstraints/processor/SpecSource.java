@@ -0,0 +1,347 @@
+package com.varlanv.konstraints.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Source of a generated {@code ValidationSpec}. The generated class only calls the public {@code Valid},
+ * {@code Violation} and {@code Violations} API: no reflection, and no lambdas on the validation path.
+ */
+final class SpecSource {
+
+    private final String packageName;
+    private final String subjectType;
+    private final String className;
+    private final List<Field> fields;
+    private final List<String> patterns = new ArrayList<>();
+    private final StringBuilder out = new StringBuilder();
+    private boolean usesBlank;
+    private int indent;
+
+    SpecSource(String packageName, String subjectType, String className, List<Field> fields) {
+        this.packageName = packageName;
+        this.subjectType = subjectType;
+        this.className = className;
+        this.fields = fields;
+    }
+
+    static String specName(String simpleNames) {
+        return simpleNames.replace('.', '_') + "ValidationSpec";
+    }
+
+    String render() {
+        var collect = new SpecSource(packageName, subjectType, className, fields);
+        collect.indent = 1;
+        collect.collect();
+        var isValid = new SpecSource(packageName, subjectType, className, fields);
+        isValid.indent = 1;
+        isValid.isValid();
+        patterns.addAll(collect.patterns);
+        usesBlank = collect.usesBlank;
+
+        if (!packageName.isEmpty()) {
+            line("package " + packageName + ";").line("");
+        }
+        line("import com.varlanv.konstraints.Valid;");
+        line("import com.varlanv.konstraints.ValidationSpec;");
+        line("import com.varlanv.konstraints.Violation;");
+        line("import com.varlanv.konstraints.Violations;");
+        line("import java.util.Objects;");
+        line("import java.util.function.Function;");
+        line("import java.util.function.Supplier;");
+        line("import java.util.function.UnaryOperator;");
+        if (!patterns.isEmpty()) {
+            line("import java.util.regex.Pattern;");
+        }
+        line("import javax.annotation.processing.Generated;").line("");
+        line("@Generated(\"" + KonstraintsProcessor.class.getName() + "\")");
+        open("public final class " + className + " implements ValidationSpec<" + subjectType + ">");
+        line("").line("public static final " + className + " INSTANCE = new " + className + "();");
+        if (!patterns.isEmpty()) {
+            line("");
+            for (var idx = 0; idx < patterns.size(); idx++) {
+                line("private static final Pattern PATTERN" + idx + " = Pattern.compile(" + literal(patterns.get(idx))
+                        + ");");
+            }
+        }
+        line("").line("private " + className + "() {}").line("");
+
+        line("@Override");
+        open("public Valid<" + subjectType + "> validate(" + subjectType + " subject)");
+        line("Violations violations = collect(subject, \"\", Violations.create());");
+        line("return violations.isEmpty() ? Valid.valid(subject) : Valid.invalid(violations);");
+        close().line("");
+        line("@Override");
+        open("public boolean test(" + subjectType + " subject)");
+        line("return isValid(subject);");
+        close().line("");
+        line("@Override");
+        open("public ValidationSpec<" + subjectType + "> compile()");
+        line("return this;");
+        close().line("");
+        line("@Override");
+        open("public Function<" + subjectType + ", Valid<" + subjectType + ">> toFunction()");
+        line("return this::validate;");
+        close().line("");
+        line("@Override");
+        open("public UnaryOperator<" + subjectType + "> toFailingValidationOperator("
+                + "Function<Violations, ? extends Throwable> onException)");
+        line("Objects.requireNonNull(onException, \"nulls are not supported\");");
+        line("return subject -> validate(subject).orElseThrow(onException);");
+        close().line("");
+        line("@Override");
+        open("public UnaryOperator<" + subjectType + "> toThrowingOperator(Supplier<? extends Throwable> onException)");
+        line("Objects.requireNonNull(onException, \"nulls are not supported\");");
+        line("return subject -> validate(subject).orElseThrow(onException);");
+        close().line("");
+
+        line("/**");
+        line(" * Adds violations of {@code subject} to {@code violations}, with paths starting with {@code prefix}.");
+        line(" */");
+        out.append(collect.out).append(System.lineSeparator());
+        line("/**");
+        line(" * Answers whether {@code subject} is valid without collecting violations.");
+        line(" */");
+        out.append(isValid.out).append(System.lineSeparator());
+
+        open("private static String path(String prefix, String field)");
+        line("return prefix.isEmpty() ? field : prefix + field;");
+        close();
+        if (usesBlank) {
+            line("");
+            open("private static boolean isBlank(CharSequence value)");
+            open("for (int idx = 0, length = value.length(); idx < length; idx++)");
+            open("if (!Character.isWhitespace(value.charAt(idx)))");
+            line("return false;");
+            close().close();
+            line("return true;");
+            close();
+        }
+        close();
+        return out.toString();
+    }
+
+    private void collect() {
+        open("public static Violations collect(" + subjectType + " subject, String prefix, Violations violations)");
+        line("Violations result = violations;");
+        for (var idx = 0; idx < fields.size(); idx++) {
+            var field = fields.get(idx);
+            var value = "value" + idx;
+            line("var " + value + " = subject." + field.accessor + ";");
+            var path = "path(prefix, " + literal(field.name) + ")";
+            if (field.notNull) {
+                open("if (" + value + " == null)");
+                line("result = result.add(Violation.of(" + path + ", \"is null\"));");
+                if (field.checks.isEmpty()) {
+                    close();
+                    continue;
+                }
+                reopen("} else {");
+            } else if (field.nullable && !field.checks.isEmpty()) {
+                open("if (" + value + " != null)");
+            }
+            for (var check : field.checks) {
+                if (check.nestedSpec != null) {
+                    line("result = " + check.nestedSpec + ".collect(" + value + ", path(prefix, "
+                            + literal(field.name + ".") + "), result);");
+                } else {
+                    open("if (" + condition(check, value) + ")");
+                    line("result = result.add(Violation.of(" + path + ", " + literal(check.message) + "));");
+                    close();
+                }
+            }
+            if ((field.notNull || field.nullable) && !field.checks.isEmpty()) {
+                close();
+            }
+        }
+        line("return result;");
+        close();
+    }
+
+    private void isValid() {
+        open("public static boolean isValid(" + subjectType + " subject)");
+        for (var idx = 0; idx < fields.size(); idx++) {
+            var field = fields.get(idx);
+            var value = "value" + idx;
+            line("var " + value + " = subject." + field.accessor + ";");
+            if (field.notNull) {
+                open("if (" + value + " == null)");
+                line("return false;");
+                close();
+            } else if (field.nullable && !field.checks.isEmpty()) {
+                open("if (" + value + " != null)");
+            }
+            for (var check : field.checks) {
+                var condition = check.nestedSpec != null
+                        ? "!" + check.nestedSpec + ".isValid(" + value + ")"
+                        : condition(check, value);
+                open("if (" + condition + ")");
+                line("return false;");
+                close();
+            }
+            if (!field.notNull && field.nullable && !field.checks.isEmpty()) {
+                close();
+            }
+        }
+        line("return true;");
+        close();
+    }
+
+    private String condition(Check check, String value) {
+        switch (check.kind) {
+            case NOT_EMPTY:
+                return value + ".length() == 0";
+            case NOT_BLANK:
+                usesBlank = true;
+                return "isBlank(" + value + ")";
+            case LENGTH:
+                if (check.min == check.max) {
+                    return value + ".length() != " + check.min;
+                }
+                var tooShort = check.min > 0 ? value + ".length() < " + check.min : null;
+                var tooLong = check.max < Integer.MAX_VALUE ? value + ".length() > " + check.max : null;
+                if (tooShort != null && tooLong != null) {
+                    return tooShort + " || " + tooLong;
+                }
+                return tooShort != null ? tooShort : tooLong != null ? tooLong : "false";
+            case MATCHES:
+                patterns.add(check.pattern);
+                return "!PATTERN" + (patterns.size() - 1) + ".matcher(" + value + ").matches()";
+            case MIN:
+                return value + " < " + check.min + "L";
+            case MAX:
+                return value + " > " + check.max + "L";
+            default:
+                throw new IllegalStateException("Unknown check [" + check.kind + "]");
+        }
+    }
+
+    private SpecSource open(String header) {
+        line(header + " {");
+        indent++;
+        return this;
+    }
+
+    private SpecSource reopen(String header) {
+        indent--;
+        line(header);
+        indent++;
+        return this;
+    }
+
+    private SpecSource close() {
+        indent--;
+        return line("}");
+    }
+
+    private SpecSource line(String line) {
+        if (!line.isEmpty()) {
+            out.append("    ".repeat(indent)).append(line);
+        }
+        out.append(System.lineSeparator());
+        return this;
+    }
+
+    static String literal(String value) {
+        var builder = new StringBuilder(value.length() + 2).append('"');
+        for (var idx = 0; idx < value.length(); idx++) {
+            var ch = value.charAt(idx);
+            switch (ch) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (ch < 0x20 || ch > 0x7e) {
+                        builder.append(String.format("\\u%04x", (int) ch));
+                    } else {
+                        builder.append(ch);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    enum Kind {
+        NOT_EMPTY,
+        NOT_BLANK,
+        LENGTH,
+        MATCHES,
+        MIN,
+        MAX,
+        NESTED
+    }
+
+    static final class Field {
+
+        final String name;
+        final String accessor;
+        final boolean notNull;
+        // false for primitives, which are never null
+        final boolean nullable;
+        final List<Check> checks;
+
+        Field(String name, String accessor, boolean notNull, boolean nullable, List<Check> checks) {
+            this.name = name;
+            this.accessor = accessor;
+            this.notNull = notNull;
+            this.nullable = nullable;
+            this.checks = checks;
+        }
+    }
+
+    static final class Check {
+
+        final Kind kind;
+        final String message;
+        final long min;
+        final long max;
+        final String pattern;
+        final @Nullable String nestedSpec;
+
+        private Check(Kind kind, String message, long min, long max, String pattern, @Nullable String nestedSpec) {
+            this.kind = kind;
+            this.message = message;
+            this.min = min;
+            this.max = max;
+            this.pattern = pattern;
+            this.nestedSpec = nestedSpec;
+        }
+
+        static Check of(Kind kind, String message) {
+            return new Check(kind, message, 0, 0, "", null);
+        }
+
+        static Check length(int min, int max, String message) {
+            return new Check(Kind.LENGTH, message, min, max, "", null);
+        }
+
+        static Check matches(String pattern) {
+            return new Check(Kind.MATCHES, "not match", 0, 0, pattern, null);
+        }
+
+        static Check min(long min) {
+            return new Check(Kind.MIN, "must be greater than or equal to " + min, min, 0, "", null);
+        }
+
+        static Check max(long max) {
+            return new Check(Kind.MAX, "must be less than or equal to " + max, 0, max, "", null);
+        }
+
+        static Check nested(String nestedSpec) {
+            return new Check(Kind.NESTED, "", 0, 0, "", nestedSpec);
+        }
+    }
+}
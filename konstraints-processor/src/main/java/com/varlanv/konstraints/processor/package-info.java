@@ -0,0 +1,4 @@
+@NullMarked
+package com.varlanv.konstraints.processor;
+
+import org.jspecify.annotations.NullMarked;
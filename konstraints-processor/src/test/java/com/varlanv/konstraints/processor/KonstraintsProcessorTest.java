@@ -0,0 +1,212 @@
+package com.varlanv.konstraints.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import com.varlanv.konstraints.Valid;
+import com.varlanv.konstraints.ValidationSpec;
+import com.varlanv.konstraints.Violation;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+
+class KonstraintsProcessorTest implements FastTest {
+
+    private static final String ADDRESS = """
+            package sample;
+
+            import com.varlanv.konstraints.annotation.*;
+
+            @Validated
+            public record Address(@NotNull @NotBlank String city, @Matches("[0-9]{5}") String zip) {}
+            """;
+
+    private static final String ACCOUNT = """
+            package sample;
+
+            import com.varlanv.konstraints.annotation.*;
+
+            @Validated
+            public record Account(
+                    @NotNull @NotBlank @Length(min = 3, max = 8) String login,
+                    @NotEmpty @Matches("[a-z]+@[a-z]+") String email,
+                    @Length(min = 4, max = 4) String pin,
+                    @NotNull @Nested Address address,
+                    @Min(0) @Max(1000) long balance,
+                    @Min(1) Integer tier) {}
+            """;
+
+    private static final String BEAN = """
+            package sample;
+
+            import com.varlanv.konstraints.annotation.*;
+
+            @Validated
+            public class Bean {
+
+                @NotNull
+                private final String name;
+
+                @Max(9)
+                final int level;
+
+                private final boolean active;
+
+                public Bean(String name, int level) {
+                    this.name = name;
+                    this.level = level;
+                    this.active = true;
+                }
+
+                public String getName() {
+                    return name;
+                }
+
+                public boolean isActive() {
+                    return active;
+                }
+            }
+            """;
+
+    record Address(String city, String zip) {}
+
+    record Account(String login, String email, String pin, Address address, long balance, Integer tier) {}
+
+    private final ValidationSpec<Account> reference = Valid.validationSpec(account -> account.field("login")
+            .nonNull()
+            .string(Account::login, login -> login.notBlank().lengthRange(3, 8))
+            .field("email")
+            .nullable()
+            .string(Account::email, email -> email.notEmpty().matches(Pattern.compile("[a-z]+@[a-z]+")))
+            .field("pin")
+            .nullable()
+            .string(Account::pin, pin -> pin.length(4))
+            .field("address")
+            .nonNull()
+            .nested(Account::address, address -> address.field("city")
+                    .nonNull()
+                    .string(Address::city, city -> city.notBlank())
+                    .field("zip")
+                    .nullable()
+                    .string(Address::zip, zip -> zip.matches(Pattern.compile("[0-9]{5}"))))
+            .field("balance")
+            .longField(Account::balance, balance -> balance.gte(0).lte(1000))
+            .field("tier")
+            .intField(subject -> subject.tier() == null ? 1 : subject.tier(), tier -> tier.gte(1)));
+
+    private final List<Account> subjects = List.of(
+            new Account("alice", "a@b", "1234", new Address("Kyiv", "01001"), 10, 1),
+            new Account("x", "", "12", new Address(" ", "1"), -1, 0),
+            new Account(null, null, null, null, 1001, null),
+            new Account("  ", "A@B", "12345", new Address(null, null), 0, 5));
+
+    @Test
+    void generated_spec__then_reports_same_violations_as_declared_spec() throws Exception {
+        try (var loader = compile(List.of(ADDRESS, ACCOUNT))) {
+            var spec = spec(loader, "sample.AccountValidationSpec");
+            var addressType = loader.loadClass("sample.Address");
+            var accountType = loader.loadClass("sample.Account");
+            for (var subject : subjects) {
+                var source = subject.address();
+                var address = source == null
+                        ? null
+                        : addressType.getConstructors()[0].newInstance(source.city(), source.zip());
+                var generatedSubject = accountType.getConstructors()[0].newInstance(
+                        subject.login(), subject.email(), subject.pin(), address, subject.balance(), subject.tier());
+
+                var expected = reference.validate(subject).violations().list();
+
+                assertEquals(expected, spec.validate(generatedSubject).violations().list());
+                assertEquals(expected.isEmpty(), spec.test(generatedSubject));
+            }
+        }
+    }
+
+    @Test
+    void generated_spec__when_class__then_reads_getters_and_visible_fields() throws Exception {
+        try (var loader = compile(List.of(BEAN))) {
+            var spec = spec(loader, "sample.BeanValidationSpec");
+            var constructor = loader.loadClass("sample.Bean").getConstructors()[0];
+
+            assertTrue(spec.test(constructor.newInstance("name", 9)));
+            assertEquals(
+                    List.of(Violation.of("name", "is null"), Violation.of("level", "must be less than or equal to 9")),
+                    spec.validate(constructor.newInstance(null, 10)).violations().list());
+        }
+    }
+
+    @Test
+    void processor__when_constraint_does_not_fit_field__then_reports_compile_error() throws Exception {
+        var source = """
+                package sample;
+
+                import com.varlanv.konstraints.annotation.*;
+
+                @Validated
+                public record Broken(@NotBlank int count) {}
+                """;
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+
+        assertFalse(run(List.of(source), Files.createTempDirectory("konstraints"), diagnostics));
+        var messages = diagnostics.getDiagnostics().stream()
+                .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                .toList();
+        assertEquals(List.of("@NotBlank is only supported on CharSequence fields"), messages);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ValidationSpec<Object> spec(ClassLoader loader, String name) throws ReflectiveOperationException {
+        return (ValidationSpec<Object>) loader.loadClass(name).getField("INSTANCE").get(null);
+    }
+
+    private static URLClassLoader compile(List<String> sources) throws IOException {
+        var output = Files.createTempDirectory("konstraints");
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        assertTrue(run(sources, output, diagnostics), diagnostics.getDiagnostics().toString());
+        return new URLClassLoader(
+                new URL[] {output.toUri().toURL()}, KonstraintsProcessorTest.class.getClassLoader());
+    }
+
+    private static boolean run(List<String> sources, Path output, DiagnosticCollector<JavaFileObject> diagnostics)
+            throws IOException {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var sourceDir = Files.createDirectories(output.resolve("src/sample"));
+        var files = new ArrayList<Path>();
+        for (var source : sources) {
+            var name = source.substring(source.indexOf("public ") + 7).split("[ (]")[1];
+            files.add(Files.writeString(sourceDir.resolve(name + ".java"), source));
+        }
+        try (var fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+            var task = compiler.getTask(
+                    null,
+                    fileManager,
+                    diagnostics,
+                    List.of(
+                            "-Xlint:all",
+                            "-Xlint:-processing",
+                            "-Werror",
+                            "-classpath",
+                            System.getProperty("java.class.path"),
+                            "-d",
+                            output.toString(),
+                            "-s",
+                            Files.createDirectories(output.resolve("generated")).toString()),
+                    null,
+                    fileManager.getJavaFileObjectsFromPaths(files));
+            task.setProcessors(List.of(new KonstraintsProcessor()));
+            return task.call();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+plugins {
+    java
+    alias(libs.plugins.internalConvention)
+}
+
+internalConvention {
+    internalModule = true
+}
+
+dependencies {
+    implementation(projects.lib)
+    implementation(libs.jmh.core)
+    annotationProcessor(libs.jmh.generator.annprocess)
+}
+
+val jmhInclude = providers.gradleProperty("jmhInclude").orElse(".*")
+val jmhResults = layout.buildDirectory.file("reports/jmh/results.json")
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs JMH benchmarks with the GC profiler enabled"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    outputs.upToDateWhen { false }
+    doFirst {
+        jmhResults.get().asFile.parentFile.mkdirs()
+    }
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf(
+            jmhInclude.get(),
+            "-prof", "gc",
+            "-rf", "json",
+            "-rff", jmhResults.get().asFile.absolutePath
+        )
+    })
+}
@@ -0,0 +1,67 @@
+package com.varlanv.konstraints;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BatchValidationBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int batchSize;
+
+    @Param({"false", "true"})
+    public boolean compiled;
+
+    private ValidationSpec<BenchmarkFixtures.Node> spec;
+    private List<BenchmarkFixtures.Node> subjects;
+
+    @Setup
+    public void setup() {
+        var interpreted = Valid.validationSpec(BenchmarkFixtures.fullSpec(0));
+        spec = compiled ? interpreted.compile() : interpreted;
+        var shapes = BenchmarkFixtures.Shape.values();
+        subjects = new ArrayList<>(batchSize);
+        for (var idx = 0; idx < batchSize; idx++) {
+            subjects.add(BenchmarkFixtures.subject(shapes[idx % shapes.length]));
+        }
+    }
+
+    @Benchmark
+    public ValidBatch<BenchmarkFixtures.Node> validateBatch() {
+        return spec.validateBatch(subjects);
+    }
+
+    @Benchmark
+    public ValidBatch<BenchmarkFixtures.Node> validateParallel() {
+        return spec.validateParallel(subjects, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public int validateEach() {
+        var invalid = 0;
+        for (var subject : subjects) {
+            if (!spec.validate(subject).isValid()) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+}
@@ -0,0 +1,78 @@
+package com.varlanv.konstraints;
+
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Subjects and specs shared by all benchmarks. Every spec is recursive over {@link Node#child()}, so the same spec
+ * covers flat subjects (child is {@code null}) and deeply nested ones.
+ */
+public final class BenchmarkFixtures {
+
+    static final int NESTING_DEPTH = 8;
+    static final Pattern EMAIL = Pattern.compile("[a-z0-9._-]+@[a-z0-9-]+\\.[a-z]{2,6}");
+
+    private BenchmarkFixtures() {}
+
+    public record Node(@Nullable String id, @Nullable String email, @Nullable String comment, @Nullable Node child) {}
+
+    public enum Shape {
+        VALID,
+        INVALID,
+        NESTED
+    }
+
+    static Node subject(Shape shape) {
+        return switch (shape) {
+            case VALID -> validNode(null);
+            case INVALID -> new Node(" ", "not an email", "x".repeat(200), null);
+            case NESTED -> {
+                var node = validNode(null);
+                for (var depth = 0; depth < NESTING_DEPTH; depth++) {
+                    node = validNode(node);
+                }
+                yield node;
+            }
+        };
+    }
+
+    static AssertionsOperator<Node> fullSpec(int depth) {
+        return spec -> {
+            var result = spec.field("id")
+                    .nonNull()
+                    .string(Node::id, id -> id.notBlank().lengthRange(4, 16))
+                    .field("email")
+                    .nonNull()
+                    .string(Node::email, email -> email.maxLength(64).matches(EMAIL))
+                    .field("comment")
+                    .nullable()
+                    .string(Node::comment, comment -> comment.maxLength(128)
+                            .check("must not contain tabs", value -> value.indexOf('\t') < 0));
+            return depth == 0 ? result : result.field("child").nullable().nested(Node::child, fullSpec(depth - 1));
+        };
+    }
+
+    static AssertionsOperator<Node> stringSpec(int depth) {
+        return spec -> {
+            var result = spec.field("id")
+                    .nonNull()
+                    .string(Node::id, id -> id.notBlank().lengthRange(4, 16));
+            return depth == 0 ? result : result.field("child").nullable().nested(Node::child, stringSpec(depth - 1));
+        };
+    }
+
+    static AssertionsOperator<Node> matchesSpec(int depth) {
+        return spec -> {
+            var result = spec.field("email").nonNull().string(Node::email, email -> email.matches(EMAIL));
+            return depth == 0 ? result : result.field("child").nullable().nested(Node::child, matchesSpec(depth - 1));
+        };
+    }
+
+    static <SUBJECT> Rules<SUBJECT> rules(AssertionsOperator<SUBJECT> specAction) {
+        return specAction.apply(new AssertionsSpec<>(Rules.empty())).rules();
+    }
+
+    private static Node validNode(@Nullable Node child) {
+        return new Node("order-42", "john.doe@example.com", "leave at the door", child);
+    }
+}
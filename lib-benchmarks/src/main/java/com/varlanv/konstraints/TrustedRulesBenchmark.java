@@ -0,0 +1,40 @@
+package com.varlanv.konstraints;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class TrustedRulesBenchmark {
+
+    @Param
+    public BenchmarkFixtures.Shape shape;
+
+    private Rules<BenchmarkFixtures.Node> rules;
+    private BenchmarkFixtures.Node subject;
+
+    @Setup
+    public void setup() {
+        rules = BenchmarkFixtures.rules(BenchmarkFixtures.fullSpec(BenchmarkFixtures.NESTING_DEPTH));
+        subject = BenchmarkFixtures.subject(shape);
+    }
+
+    @Benchmark
+    public Violations apply() {
+        return rules.apply(subject);
+    }
+}
@@ -0,0 +1,56 @@
+package com.varlanv.konstraints;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ValidBenchmark {
+
+    @Param
+    public BenchmarkFixtures.Shape shape;
+
+    private ValidationSpec<BenchmarkFixtures.Node> spec;
+    private BenchmarkFixtures.Node subject;
+
+    @Setup
+    public void setup() {
+        spec = Valid.validationSpec(BenchmarkFixtures.fullSpec(0));
+        subject = BenchmarkFixtures.subject(shape);
+    }
+
+    @Benchmark
+    public String map() {
+        return spec.validate(subject)
+                .map(BenchmarkFixtures.Node::id)
+                .map(String::toUpperCase)
+                .optional()
+                .orElse("");
+    }
+
+    @Benchmark
+    public String flatMap() {
+        var valid = spec.validate(subject);
+        var node = subject.child();
+        while (node != null) {
+            var child = node;
+            valid = valid.flatMap(ignore -> spec.validate(child));
+            node = node.child();
+        }
+        return valid.map(BenchmarkFixtures.Node::id).optional().orElse("");
+    }
+}
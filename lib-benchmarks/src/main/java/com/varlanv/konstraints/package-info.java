@@ -0,0 +1,4 @@
+@NullMarked
+package com.varlanv.konstraints;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,246 @@
+package com.varlanv.konstraints;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Rules whose pass/fail and fail-fast paths run top-level rules in an order learned at runtime. One validation in
+ * {@link #SAMPLE_RATE} is timed rule by rule, and every {@link #REORDER_INTERVAL} sampled validations the rules are
+ * sorted by expected cost of finding a reject, that is average nanoseconds divided by failure rate, so cheap rules
+ * that reject often run first. Estimates are smoothed across windows, so the order follows a changing traffic mix
+ * without flapping.
+ *
+ * <p>Top-level rules are independent of each other, so the order never changes whether a subject is valid. Full
+ * validation still runs in declaration order and reports violations exactly as the source rules do; only the
+ * violation picked by {@link #applyFirst(Object)} may differ.
+ */
+final class AdaptiveRules<SUBJECT> implements Rules<SUBJECT> {
+
+    static final int SAMPLE_RATE = 64;
+    static final int REORDER_INTERVAL = 1024;
+    // failure rate assumed for rules that did not reject anything yet, keeps their rank finite
+    private static final double MIN_FAILURE_RATE = 1e-3;
+
+    private final Rules<SUBJECT> source;
+    // segments of the plan match top-level rules one to one, so a compiled source keeps running compiled code
+    private final @Nullable ValidationPlan plan;
+    private final Stats stats;
+
+    AdaptiveRules(Rules<SUBJECT> source) {
+        this(source, new Stats(source.list().size()));
+    }
+
+    private AdaptiveRules(Rules<SUBJECT> source, Stats stats) {
+        this.source = source;
+        this.plan = source instanceof CompiledRules ? ((CompiledRules<SUBJECT>) source).plan() : null;
+        this.stats = stats;
+    }
+
+    @Override
+    public Rules<SUBJECT> add(Rule<SUBJECT> rule) {
+        return new AdaptiveRules<>(source.add(rule));
+    }
+
+    @Override
+    public Rules<SUBJECT> merge(Rules<SUBJECT> other) {
+        return new AdaptiveRules<>(source.merge(other));
+    }
+
+    @Override
+    public Violations apply(SUBJECT t) {
+        return source.apply(t);
+    }
+
+    @Override
+    public Violations apply(SUBJECT t, Violations accumulator) {
+        return source.apply(t, accumulator);
+    }
+
+    @Override
+    public void applyBatch(List<SUBJECT> subjects, int from, int to, Violations[] accumulators) {
+        source.applyBatch(subjects, from, to, accumulators);
+    }
+
+    @Override
+    public Violations applyRule(int index, SUBJECT t, Violations accumulator) {
+        return source.applyRule(index, t, accumulator);
+    }
+
+    @Override
+    public Violations applyFirst(SUBJECT t) {
+        var order = stats.order;
+        var sampled = ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0;
+        for (var idx : order) {
+            var start = sampled ? System.nanoTime() : 0L;
+            var violations = applyFirst(idx, t);
+            if (sampled) {
+                stats.record(idx, System.nanoTime() - start, !violations.isEmpty());
+            }
+            if (!violations.isEmpty()) {
+                finish(sampled);
+                return violations;
+            }
+        }
+        finish(sampled);
+        return Violations.create();
+    }
+
+    @Override
+    public boolean test(SUBJECT t) {
+        var order = stats.order;
+        if (ThreadLocalRandom.current().nextInt(SAMPLE_RATE) != 0) {
+            for (var idx : order) {
+                if (!test(idx, t)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (var idx : order) {
+            var start = System.nanoTime();
+            var passed = test(idx, t);
+            stats.record(idx, System.nanoTime() - start, !passed);
+            if (!passed) {
+                finish(true);
+                return false;
+            }
+        }
+        finish(true);
+        return true;
+    }
+
+    private Violations applyFirst(int idx, SUBJECT t) {
+        var plan = this.plan;
+        return plan != null
+                ? plan.executeSegment(t, idx, Violations.create(), true)
+                : source.list().get(idx).applyFirst(t, Violations.create());
+    }
+
+    private boolean test(int idx, SUBJECT t) {
+        var plan = this.plan;
+        return plan != null ? plan.testSegment(t, idx) : source.list().get(idx).test(t);
+    }
+
+    @Override
+    public List<Rule<SUBJECT>> list() {
+        return source.list();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return source.isEmpty();
+    }
+
+    @Override
+    public Rules<SUBJECT> compile() {
+        var compiled = source.compile();
+        return compiled == source ? this : new AdaptiveRules<>(compiled, stats);
+    }
+
+    String describe() {
+        var rules = source.list();
+        var order = stats.order;
+        var builder = new StringBuilder()
+                .append(source instanceof CompiledRules ? "compiled" : "interpreted")
+                .append(", adaptive order, ")
+                .append(stats.sampled.get())
+                .append(" sampled validations");
+        for (var position = 0; position < order.length; position++) {
+            var idx = order[position];
+            builder.append(System.lineSeparator())
+                    .append("  ")
+                    .append(position + 1)
+                    .append(". ")
+                    .append(rules.get(idx).describe());
+            var nanos = stats.avgNanos[idx];
+            if (nanos >= 0) {
+                builder.append(String.format(
+                        " (avg %.0f ns, fails %.1f%%)", nanos, stats.failureRates[idx] * 100));
+            } else {
+                builder.append(" (no samples yet)");
+            }
+        }
+        return builder.toString();
+    }
+
+    private void finish(boolean sampled) {
+        if (sampled && stats.sampled.incrementAndGet() % REORDER_INTERVAL == 0) {
+            stats.reorder();
+        }
+    }
+
+    private static final class Stats {
+
+        final LongAdder[] samples;
+        final LongAdder[] failures;
+        final LongAdder[] nanos;
+        final AtomicLong sampled = new AtomicLong();
+        // smoothed estimates, -1 until a rule has been sampled; only written under the monitor
+        final double[] avgNanos;
+        final double[] failureRates;
+        volatile int[] order;
+
+        Stats(int size) {
+            samples = adders(size);
+            failures = adders(size);
+            nanos = adders(size);
+            avgNanos = new double[size];
+            failureRates = new double[size];
+            Arrays.fill(avgNanos, -1);
+            order = new int[size];
+            for (var idx = 0; idx < size; idx++) {
+                order[idx] = idx;
+            }
+        }
+
+        void record(int idx, long elapsedNanos, boolean failed) {
+            samples[idx].increment();
+            nanos[idx].add(elapsedNanos);
+            if (failed) {
+                failures[idx].increment();
+            }
+        }
+
+        synchronized void reorder() {
+            var size = order.length;
+            var ranks = new double[size];
+            for (var idx = 0; idx < size; idx++) {
+                var count = samples[idx].sumThenReset();
+                var failed = failures[idx].sumThenReset();
+                var elapsed = nanos[idx].sumThenReset();
+                if (count > 0) {
+                    var windowNanos = (double) elapsed / count;
+                    var windowFailureRate = (double) failed / count;
+                    var known = avgNanos[idx] >= 0;
+                    avgNanos[idx] = known ? (avgNanos[idx] + windowNanos) / 2 : windowNanos;
+                    failureRates[idx] = known ? (failureRates[idx] + windowFailureRate) / 2 : windowFailureRate;
+                }
+                // rules without samples go first, so that they get measured
+                ranks[idx] = avgNanos[idx] < 0 ? -1 : avgNanos[idx] / Math.max(failureRates[idx], MIN_FAILURE_RATE);
+            }
+            var sorted = new ArrayList<Integer>(size);
+            for (var idx = 0; idx < size; idx++) {
+                sorted.add(idx);
+            }
+            sorted.sort((left, right) -> Double.compare(ranks[left], ranks[right]));
+            var newOrder = new int[size];
+            for (var position = 0; position < size; position++) {
+                newOrder[position] = sorted.get(position);
+            }
+            order = newOrder;
+        }
+
+        private static LongAdder[] adders(int size) {
+            var result = new LongAdder[size];
+            for (var idx = 0; idx < size; idx++) {
+                result[idx] = new LongAdder();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.varlanv.konstraints;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ValidBatch} stored as a bitset of valid indices plus two parallel arrays, sorted by index, for the invalid
+ * subjects only.
+ */
+final class ArrayValidBatch<SUBJECT> implements ValidBatch<SUBJECT> {
+
+    private final int size;
+    private final BitSet valid;
+    private final int[] invalidIndices;
+    private final Violations[] invalidViolations;
+    private final List<SUBJECT> validSubjects;
+
+    ArrayValidBatch(
+            int size,
+            BitSet valid,
+            int[] invalidIndices,
+            Violations[] invalidViolations,
+            List<SUBJECT> validSubjects) {
+        this.size = size;
+        this.valid = valid;
+        this.invalidIndices = invalidIndices;
+        this.invalidViolations = invalidViolations;
+        this.validSubjects = validSubjects;
+    }
+
+    /**
+     * Builds a batch from per-subject accumulators, where {@code accumulators[i]} belongs to {@code subjects.get(i)}.
+     */
+    static <SUBJECT> ValidBatch<SUBJECT> of(List<SUBJECT> subjects, Violations[] accumulators) {
+        var size = accumulators.length;
+        var valid = new BitSet(size);
+        var invalidCount = 0;
+        for (var idx = 0; idx < size; idx++) {
+            if (accumulators[idx].isEmpty()) {
+                valid.set(idx);
+            } else {
+                invalidCount++;
+            }
+        }
+        var invalidIndices = new int[invalidCount];
+        var invalidViolations = new Violations[invalidCount];
+        var validSubjects = new ArrayList<SUBJECT>(size - invalidCount);
+        for (int idx = 0, pos = 0; idx < size; idx++) {
+            if (valid.get(idx)) {
+                validSubjects.add(subjects.get(idx));
+            } else {
+                invalidIndices[pos] = idx;
+                invalidViolations[pos++] = ImmutableTrustedViolations.copyOf(accumulators[idx]);
+            }
+        }
+        return new ArrayValidBatch<>(
+                size, valid, invalidIndices, invalidViolations, Collections.unmodifiableList(validSubjects));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isValid() {
+        return invalidIndices.length == 0;
+    }
+
+    @Override
+    public boolean isValid(int index) {
+        checkIndex(index);
+        return valid.get(index);
+    }
+
+    @Override
+    public int invalidCount() {
+        return invalidIndices.length;
+    }
+
+    @Override
+    public BitSet validIndices() {
+        return (BitSet) valid.clone();
+    }
+
+    @Override
+    public Violations violations(int index) {
+        checkIndex(index);
+        var pos = Arrays.binarySearch(invalidIndices, index);
+        return pos < 0 ? Violations.create() : invalidViolations[pos];
+    }
+
+    @Override
+    public Map<Integer, Violations> violationsByIndex() {
+        var result = new LinkedHashMap<Integer, Violations>(invalidIndices.length * 2);
+        for (var pos = 0; pos < invalidIndices.length; pos++) {
+            result.put(invalidIndices[pos], invalidViolations[pos]);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public List<SUBJECT> validSubjects() {
+        return validSubjects;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index [" + index + "] out of bounds for batch of size [" + size + "]");
+        }
+    }
+}
@@ -1,26 +1,69 @@
 package com.varlanv.konstraints;
 
+import java.util.function.Predicate;
+import org.jspecify.annotations.Nullable;
+
 public final class AssertionsSpec<SUBJECT> {
 
     private final Rules<SUBJECT> rules;
+    private final String path;
+    // record validated by this spec, if known
+    private final @Nullable Class<SUBJECT> type;
 
     AssertionsSpec(Rules<SUBJECT> rules) {
+        this(rules, "");
+    }
+
+    AssertionsSpec(Rules<SUBJECT> rules, String path) {
+        this(rules, path, null);
+    }
+
+    AssertionsSpec(Rules<SUBJECT> rules, String path, @Nullable Class<SUBJECT> type) {
         this.rules = rules;
+        this.path = path;
+        this.type = type;
     }
 
     public FieldSpec<SUBJECT> field(String fieldName) {
-        return new FieldSpec<>(this, fieldName);
+        return new FieldSpec<>(this, Internals.childPath(path, fieldName));
+    }
+
+    /**
+     * Same as {@link #field(String)}, but for a component of the record validated by this spec. The component name is
+     * the field name of violations, and its accessor is the extractor of every mapper-less method of the returned
+     * {@link FieldSpec} and its {@link NullSpec}. Only available in specs that know their record type, see
+     * {@link Valid#validationSpec(Class, AssertionsOperator)}.
+     *
+     * @throws IllegalArgumentException if the record has no such component
+     */
+    public FieldSpec<SUBJECT> component(String name) {
+        var type = this.type;
+        if (type == null) {
+            throw new IllegalStateException(
+                    "Record type is unknown, declare the spec with Valid.validationSpec(Class, AssertionsOperator)");
+        }
+        return new FieldSpec<>(this, Internals.childPath(path, name), RecordComponents.of(type).component(name));
+    }
+
+    /**
+     * Tests the subject together with its ancestors. The predicate gets a view whose {@link Child#parent()} is the
+     * enclosing object, or a view of it when that object has a parent of its own, and whose
+     * {@link IndexedChild#index()} is the position in the enclosing collection, or {@code -1}. Views are valid only
+     * while the predicate runs. Ancestors are tracked only for specs that use this check.
+     */
+    public AssertionsSpec<SUBJECT> checkWithParent(String message, Predicate<IndexedChild<SUBJECT, ?>> action) {
+        return withRule(new PathStack.ParentCheck<>(action, Violation.of(path, message)));
     }
 
     AssertionsSpec<SUBJECT> withRule(Rule<SUBJECT> rule) {
-        return new AssertionsSpec<>(this.rules.add(rule));
+        return new AssertionsSpec<>(this.rules.add(rule), path, type);
     }
 
     AssertionsSpec<SUBJECT> mergeRules(Rules<SUBJECT> rules) {
-        return new AssertionsSpec<>(this.rules.merge(rules));
+        return new AssertionsSpec<>(this.rules.merge(rules), path, type);
     }
 
     Rules<SUBJECT> rules() {
-        return null;
+        return rules;
     }
 }
@@ -0,0 +1,32 @@
+package com.varlanv.konstraints;
+
+import java.util.function.Predicate;
+
+/**
+ * Custom check that may block, e.g. on a database or cache lookup. When the accumulator is a
+ * {@link PendingViolations} the check is handed off to its executor, so independent async checks of one subject run
+ * concurrently. Any other accumulator evaluates the predicate in place, so synchronous validation still works.
+ */
+final class AsyncCheck<TARGET> implements Rule<TARGET> {
+
+    private final Predicate<TARGET> predicate;
+    private final Violation violation;
+
+    AsyncCheck(Predicate<TARGET> predicate, Violation violation) {
+        this.predicate = predicate;
+        this.violation = violation;
+    }
+
+    @Override
+    public Violations apply(TARGET target, Violations violations) {
+        if (violations instanceof PendingViolations) {
+            return ((PendingViolations) violations).addAsync(() -> predicate.test(target), violation);
+        }
+        return predicate.test(target) ? violations : violations.add(violation);
+    }
+
+    @Override
+    public boolean test(TARGET target) {
+        return predicate.test(target);
+    }
+}
@@ -0,0 +1,39 @@
+package com.varlanv.konstraints;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Default executor for async checks. On runtimes with virtual threads every check gets its own virtual thread, so
+ * blocking lookups are cheap to run side by side. Older runtimes fall back to a cached pool of daemon threads. The
+ * library targets Java 11, so the virtual thread factory is looked up reflectively once.
+ */
+final class AsyncExecutors {
+
+    private AsyncExecutors() {}
+
+    static Executor defaultExecutor() {
+        return Holder.EXECUTOR;
+    }
+
+    private static final class Holder {
+
+        static final Executor EXECUTOR = create();
+    }
+
+    private static Executor create() {
+        try {
+            var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            var counter = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                var thread = new Thread(runnable, "konstraints-async-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
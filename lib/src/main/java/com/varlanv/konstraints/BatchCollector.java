@@ -0,0 +1,79 @@
+package com.varlanv.konstraints;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Mutable container behind {@link ValidationSpec#collector()}. Subjects are indexed in encounter order, valid ones
+ * are kept as is and only invalid ones get an index and violations, so no per-element result wrapper is retained.
+ * Combining shifts the right side by the size of the left side, which touches only the right side's entries.
+ */
+final class BatchCollector<SUBJECT> {
+
+    private final Function<SUBJECT, Violations> validator;
+    private final BitSet valid = new BitSet();
+    private final List<SUBJECT> validSubjects = new ArrayList<>();
+    private final List<Violations> invalidViolations = new ArrayList<>();
+    private int[] invalidIndices = new int[8];
+    private int size;
+
+    private BatchCollector(Function<SUBJECT, Violations> validator) {
+        this.validator = validator;
+    }
+
+    static <SUBJECT> Collector<SUBJECT, ?, ValidBatch<SUBJECT>> collector(Function<SUBJECT, Violations> validator) {
+        return Collector.<SUBJECT, BatchCollector<SUBJECT>, ValidBatch<SUBJECT>>of(
+                () -> new BatchCollector<>(validator),
+                BatchCollector::accumulate,
+                BatchCollector::combine,
+                BatchCollector::finish);
+    }
+
+    private void accumulate(SUBJECT subject) {
+        var violations = validator.apply(subject);
+        if (violations.isEmpty()) {
+            valid.set(size);
+            validSubjects.add(subject);
+        } else {
+            addInvalid(size, violations);
+        }
+        size++;
+    }
+
+    private BatchCollector<SUBJECT> combine(BatchCollector<SUBJECT> right) {
+        var offset = size;
+        for (var idx = right.valid.nextSetBit(0); idx >= 0; idx = right.valid.nextSetBit(idx + 1)) {
+            valid.set(offset + idx);
+        }
+        validSubjects.addAll(right.validSubjects);
+        for (var pos = 0; pos < right.invalidViolations.size(); pos++) {
+            addInvalid(offset + right.invalidIndices[pos], right.invalidViolations.get(pos));
+        }
+        size += right.size;
+        return this;
+    }
+
+    private ValidBatch<SUBJECT> finish() {
+        var count = invalidViolations.size();
+        return new ArrayValidBatch<>(
+                size,
+                valid,
+                Arrays.copyOf(invalidIndices, count),
+                invalidViolations.toArray(new Violations[0]),
+                Collections.unmodifiableList(validSubjects));
+    }
+
+    private void addInvalid(int index, Violations violations) {
+        var count = invalidViolations.size();
+        if (count == invalidIndices.length) {
+            invalidIndices = Arrays.copyOf(invalidIndices, count * 2);
+        }
+        invalidIndices[count] = index;
+        invalidViolations.add(ImmutableTrustedViolations.copyOf(violations));
+    }
+}
@@ -0,0 +1,60 @@
+package com.varlanv.konstraints;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Splits {@code [from, to)} into ranges and runs them on a {@link ForkJoinPool}. Splitting stops early once the
+ * current worker already has enough queued work for idle workers to steal, so the number of tasks adapts to the load
+ * of the pool rather than to the input size alone. Ranges are disjoint, so writers of per-index results never
+ * contend; {@link #invoke} returns only after every range has completed, which publishes all results to the caller.
+ */
+final class BatchTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    // below this size forking costs more than it saves
+    static final int MIN_CHUNK = 256;
+    // upper bound for a single column-at-a-time sweep, so that a sweep stays in cache
+    static final int MAX_CHUNK = 4096;
+    private static final int MAX_SURPLUS = 3;
+
+    @FunctionalInterface
+    interface Range {
+
+        void run(int from, int to);
+    }
+
+    private final transient Range range;
+    private final int from;
+    private final int to;
+    private final int chunk;
+
+    private BatchTask(Range range, int from, int to, int chunk) {
+        this.range = range;
+        this.from = from;
+        this.to = to;
+        this.chunk = chunk;
+    }
+
+    static void invoke(ForkJoinPool pool, int size, Range range) {
+        if (size <= MIN_CHUNK) {
+            range.run(0, size);
+            return;
+        }
+        var chunk = Math.max(MIN_CHUNK, Math.min(MAX_CHUNK, size / (pool.getParallelism() * 8)));
+        pool.invoke(new BatchTask(range, 0, size, chunk));
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from > chunk && getSurplusQueuedTaskCount() <= MAX_SURPLUS) {
+            var mid = (from + to) >>> 1;
+            invokeAll(new BatchTask(range, from, mid, chunk), new BatchTask(range, mid, to, chunk));
+            return;
+        }
+        for (var start = from; start < to; start += chunk) {
+            range.run(start, Math.min(to, start + chunk));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.varlanv.konstraints;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.Range;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Assertions on {@link BigInteger} values. Bounds are prepared when the spec is built, and
+ * {@link BigInteger#bitLength()} decides most values before any magnitude comparison.
+ */
+public final class BigIntegerAssertions<SUBJECT> {
+
+    private final NullSpec<SUBJECT> parent;
+    final Rules<BigInteger> rules;
+
+    BigIntegerAssertions(NullSpec<SUBJECT> parent, Rules<BigInteger> rules) {
+        this.parent = parent;
+        this.rules = rules;
+    }
+
+    public BigIntegerAssertions<SUBJECT> check(String message, Predicate<@NonNull BigInteger> action) {
+        return withRule(TargetCheck.predicate(action, violation(message)));
+    }
+
+    public BigIntegerAssertions<SUBJECT> maxDigits(@Range(from = 1, to = Integer.MAX_VALUE) int maxDigits) {
+        // |value| has at most maxDigits digits iff -10^maxDigits < value < 10^maxDigits
+        var limit = BigInteger.TEN.pow(maxDigits);
+        var negativeLimit = limit.negate();
+        // 10^(maxDigits - 1) has this many bits, and so does every smaller power-of-ten range below the limit
+        var safeBits = BigInteger.TEN.pow(maxDigits - 1).bitLength();
+        var limitBits = limit.bitLength();
+        return withRule(TargetCheck.predicate(
+                value -> {
+                    var bits = value.bitLength();
+                    if (bits <= safeBits) {
+                        return true;
+                    } else if (bits > limitBits) {
+                        return false;
+                    }
+                    return value.compareTo(limit) < 0 && value.compareTo(negativeLimit) > 0;
+                },
+                violation("must have at most " + maxDigits + " digits")));
+    }
+
+    public BigIntegerAssertions<SUBJECT> positive() {
+        return withRule(TargetCheck.predicate(value -> value.signum() > 0, violation("must be positive")));
+    }
+
+    public BigIntegerAssertions<SUBJECT> nonNegative() {
+        return withRule(TargetCheck.predicate(value -> value.signum() >= 0, violation("must not be negative")));
+    }
+
+    public BigIntegerAssertions<SUBJECT> gte(BigInteger min) {
+        Objects.requireNonNull(min, "nulls are not supported");
+        return withRule(TargetCheck.predicate(
+                value -> value.compareTo(min) >= 0, violation("must be greater than or equal to " + min)));
+    }
+
+    public BigIntegerAssertions<SUBJECT> lte(BigInteger max) {
+        Objects.requireNonNull(max, "nulls are not supported");
+        return withRule(TargetCheck.predicate(
+                value -> value.compareTo(max) <= 0, violation("must be less than or equal to " + max)));
+    }
+
+    public BigIntegerAssertions<SUBJECT> inRange(BigInteger min, BigInteger max) {
+        Objects.requireNonNull(min, "nulls are not supported");
+        Objects.requireNonNull(max, "nulls are not supported");
+        if (min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("min must be less than or equal to max");
+        }
+        return withRule(TargetCheck.predicate(
+                value -> value.compareTo(min) >= 0 && value.compareTo(max) <= 0,
+                violation("must be between " + min + " and " + max)));
+    }
+
+    private BigIntegerAssertions<SUBJECT> withRule(Rule<BigInteger> rule) {
+        return new BigIntegerAssertions<>(parent, rules.add(rule));
+    }
+
+    private Violation violation(String message) {
+        return Violation.of(parent.parent.fieldName, message);
+    }
+}
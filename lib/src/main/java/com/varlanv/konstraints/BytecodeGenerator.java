@@ -0,0 +1,457 @@
+package com.varlanv.konstraints;
+
+import static com.varlanv.konstraints.Opcodes.AALOAD;
+import static com.varlanv.konstraints.Opcodes.ALOAD;
+import static com.varlanv.konstraints.Opcodes.ARETURN;
+import static com.varlanv.konstraints.Opcodes.ASTORE;
+import static com.varlanv.konstraints.Opcodes.CHECKCAST;
+import static com.varlanv.konstraints.Opcodes.DCMPG;
+import static com.varlanv.konstraints.Opcodes.DCMPL;
+import static com.varlanv.konstraints.Opcodes.DLOAD;
+import static com.varlanv.konstraints.Opcodes.DSTORE;
+import static com.varlanv.konstraints.Opcodes.GETFIELD;
+import static com.varlanv.konstraints.Opcodes.GOTO;
+import static com.varlanv.konstraints.Opcodes.IAND;
+import static com.varlanv.konstraints.Opcodes.ICONST_0;
+import static com.varlanv.konstraints.Opcodes.IFEQ;
+import static com.varlanv.konstraints.Opcodes.IFGT;
+import static com.varlanv.konstraints.Opcodes.IFLT;
+import static com.varlanv.konstraints.Opcodes.IFNE;
+import static com.varlanv.konstraints.Opcodes.IFNONNULL;
+import static com.varlanv.konstraints.Opcodes.IFNULL;
+import static com.varlanv.konstraints.Opcodes.IF_ICMPGT;
+import static com.varlanv.konstraints.Opcodes.IF_ICMPLT;
+import static com.varlanv.konstraints.Opcodes.ILOAD;
+import static com.varlanv.konstraints.Opcodes.INVOKESPECIAL;
+import static com.varlanv.konstraints.Opcodes.INVOKESTATIC;
+import static com.varlanv.konstraints.Opcodes.INVOKEVIRTUAL;
+import static com.varlanv.konstraints.Opcodes.IRETURN;
+import static com.varlanv.konstraints.Opcodes.ISTORE;
+import static com.varlanv.konstraints.Opcodes.LCMP;
+import static com.varlanv.konstraints.Opcodes.LLOAD;
+import static com.varlanv.konstraints.Opcodes.LSTORE;
+import static com.varlanv.konstraints.Opcodes.PUTFIELD;
+import static com.varlanv.konstraints.Opcodes.RETURN;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Turns a rule tree into a hidden class with straight-line code: extractors, predicates and prebuilt violations are
+ * loaded from a constants array, while lengths and numeric bounds are folded into the code as immediates, so the JIT
+ * sees the same shape as hand-written validation. Rules the generator does not know are called through
+ * {@link Rule}, exactly as {@link ValidationPlan} does.
+ *
+ * <p>Hidden classes need Java 15. The library targets Java 11, so {@code Lookup.defineHiddenClass} is looked up
+ * reflectively, and {@link #isAvailable()} is {@code false} on older runtimes.
+ */
+final class BytecodeGenerator {
+
+    private static final String CLASS_NAME = "com/varlanv/konstraints/GeneratedValidator$Impl";
+    private static final String OBJECT = "java/lang/Object";
+    private static final String CHAR_SEQUENCE = "java/lang/CharSequence";
+    private static final String VIOLATION = "com/varlanv/konstraints/Violation";
+    private static final String VIOLATIONS = "com/varlanv/konstraints/Violations";
+    private static final String RULE = "com/varlanv/konstraints/Rule";
+    private static final String CONSTANTS = "c";
+    private static final int MAX_STACK = 6;
+    private static final @Nullable Method DEFINE_HIDDEN_CLASS = defineHiddenClass();
+
+    private final ClassFileWriter writer = new ClassFileWriter(
+            CLASS_NAME, OBJECT, "com/varlanv/konstraints/GeneratedValidator");
+    private final List<Object> constants = new ArrayList<>();
+    private final Map<Object, Integer> constantIndices = new IdentityHashMap<>();
+    // per method state
+    private ClassFileWriter.@Nullable Method method;
+    private boolean applyMode;
+    private final List<String> scope = new ArrayList<>();
+    private int nextSlot;
+    private int maxLocals;
+
+    private BytecodeGenerator() {}
+
+    static boolean isAvailable() {
+        return DEFINE_HIDDEN_CLASS != null;
+    }
+
+    /**
+     * Generates and instantiates a validator for the given top-level rules.
+     *
+     * @throws IllegalStateException when the runtime has no hidden classes or the rules do not fit into a method
+     */
+    static GeneratedValidator generate(List<? extends Rule<?>> rules) {
+        var defineHiddenClass = DEFINE_HIDDEN_CLASS;
+        if (defineHiddenClass == null) {
+            throw new IllegalStateException("Hidden classes are not supported by this runtime");
+        }
+        var generator = new BytecodeGenerator();
+        var bytes = generator.classFile(rules);
+        try {
+            var options = Array.newInstance(
+                    Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption"), 0);
+            var lookup = (MethodHandles.Lookup) defineHiddenClass.invoke(MethodHandles.lookup(), bytes, true, options);
+            return (GeneratedValidator) lookup.lookupClass()
+                    .getConstructor(Object[].class)
+                    .newInstance((Object) generator.constants.toArray());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to define generated validator", e);
+        }
+    }
+
+    private byte[] classFile(List<? extends Rule<?>> rules) {
+        writer.field(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_FINAL, CONSTANTS, "[Ljava/lang/Object;");
+        var init = writer.method(ClassFileWriter.ACC_PUBLIC, "<init>", "([Ljava/lang/Object;)V");
+        init.local(ALOAD, 0)
+                .op2(INVOKESPECIAL, writer.methodRef(OBJECT, "<init>", "()V"))
+                .local(ALOAD, 0)
+                .local(ALOAD, 1)
+                .op2(PUTFIELD, writer.fieldRef(CLASS_NAME, CONSTANTS, "[Ljava/lang/Object;"))
+                .op(RETURN)
+                .end(2, 2);
+
+        begin(true, "apply", "(Ljava/lang/Object;L" + VIOLATIONS + ";)L" + VIOLATIONS + ";");
+        scope.add(VIOLATIONS);
+        nextSlot = 3;
+        rules(rules, 1);
+        method().local(ALOAD, 2).op(ARETURN).end(MAX_STACK, maxLocals);
+
+        begin(false, "test", "(Ljava/lang/Object;)Z");
+        rules(rules, 1);
+        method().op(ICONST_0 + 1).op(IRETURN).end(MAX_STACK, maxLocals);
+        return writer.toByteArray();
+    }
+
+    private void begin(boolean applyMode, String name, String descriptor) {
+        this.applyMode = applyMode;
+        this.method = writer.method(ClassFileWriter.ACC_PUBLIC, name, descriptor);
+        scope.clear();
+        scope.add(CLASS_NAME);
+        scope.add(OBJECT);
+        nextSlot = 2;
+        maxLocals = 3;
+    }
+
+    private ClassFileWriter.Method method() {
+        var method = this.method;
+        if (method == null) {
+            throw new IllegalStateException("No method in progress");
+        }
+        return method;
+    }
+
+    private void rules(List<? extends Rule<?>> rules, int value) {
+        for (var rule : rules) {
+            rule(rule, value);
+        }
+    }
+
+    private void rule(Rule<?> rule, int value) {
+        if (rule instanceof FieldRule) {
+            field((FieldRule<?, ?>) rule, value);
+        } else if (rule instanceof TargetCheck) {
+            check((TargetCheck<?>) rule, value);
+        } else if (rule instanceof FusedStringRule) {
+            fused((FusedStringRule<?>) rule, value);
+        } else if (rule instanceof LongFieldRule) {
+            longField((LongFieldRule<?>) rule, value);
+        } else if (rule instanceof DoubleFieldRule) {
+            doubleField((DoubleFieldRule<?>) rule, value);
+        } else {
+            opaque(rule, value);
+        }
+    }
+
+    private void field(FieldRule<?, ?> rule, int value) {
+        var method = method();
+        var end = label();
+        constant(rule.extractor, "java/util/function/Function");
+        method.local(ALOAD, value)
+                .invokeInterface(
+                        writer.interfaceMethodRef(
+                                "java/util/function/Function", "apply", "(Ljava/lang/Object;)Ljava/lang/Object;"),
+                        1);
+        var target = enter(OBJECT, 1);
+        method.local(ASTORE, target).local(ALOAD, target);
+        var nullViolation = rule.nullViolation;
+        if (nullViolation == null) {
+            method.jump(IFNULL, end);
+        } else {
+            var body = label();
+            method.jump(IFNONNULL, body);
+            if (applyMode) {
+                addViolation(nullViolation);
+                method.jump(GOTO, end);
+            } else {
+                method.op(ICONST_0).op(IRETURN);
+            }
+            method.place(body);
+        }
+        rules(rule.rules.list(), target);
+        exit(1);
+        method.place(end);
+    }
+
+    private void check(TargetCheck<?> check, int value) {
+        var method = method();
+        switch (check.kind) {
+            case TargetCheck.PREDICATE:
+                failUnless(check.violation, fail -> {
+                    constant(check.argument, "java/util/function/Predicate");
+                    method.local(ALOAD, value)
+                            .invokeInterface(
+                                    writer.interfaceMethodRef(
+                                            "java/util/function/Predicate", "test", "(Ljava/lang/Object;)Z"),
+                                    1)
+                            .jump(IFEQ, fail);
+                });
+                break;
+            case TargetCheck.FAIL:
+                failUnless(check.violation, fail -> method.op(ICONST_0).jump(IFEQ, fail));
+                break;
+            case TargetCheck.EMPTY:
+                failUnless(check.violation, fail -> length(value).jump(IFNE, fail));
+                break;
+            case TargetCheck.NOT_EMPTY:
+                failUnless(check.violation, fail -> length(value).jump(IFEQ, fail));
+                break;
+            case TargetCheck.NOT_BLANK:
+                failUnless(check.violation, fail -> charSequence(value)
+                        .op2(
+                                INVOKESTATIC,
+                                writer.interfaceMethodRef(
+                                        "com/varlanv/konstraints/Internals", "isBlank", "(Ljava/lang/CharSequence;)Z"))
+                        .jump(IFNE, fail));
+                break;
+            case TargetCheck.LENGTH:
+                failUnless(check.violation, fail -> {
+                    var length = nextSlot;
+                    maxLocals = Math.max(maxLocals, length + 1);
+                    length(value).local(ISTORE, length);
+                    if (check.min > 0) {
+                        method.local(ILOAD, length).pushInt(check.min).jump(IF_ICMPLT, fail);
+                    }
+                    if (check.max < Integer.MAX_VALUE) {
+                        method.local(ILOAD, length).pushInt(check.max).jump(IF_ICMPGT, fail);
+                    }
+                });
+                break;
+            case TargetCheck.MATCHES:
+                failUnless(check.violation, fail -> {
+                    constant(check.argument, "com/varlanv/konstraints/PatternMatcher");
+                    charSequence(value)
+                            .op2(
+                                    INVOKEVIRTUAL,
+                                    writer.methodRef(
+                                            "com/varlanv/konstraints/PatternMatcher",
+                                            "matches",
+                                            "(Ljava/lang/CharSequence;)Z"))
+                            .jump(IFEQ, fail);
+                });
+                break;
+            default:
+                opaque(check, value);
+        }
+    }
+
+    private void fused(FusedStringRule<?> rule, int value) {
+        var method = method();
+        constant(rule.scanner, "com/varlanv/konstraints/StringScanner");
+        charSequence(value)
+                .op2(
+                        INVOKEVIRTUAL,
+                        writer.methodRef(
+                                "com/varlanv/konstraints/StringScanner", "scan", "(Ljava/lang/CharSequence;)I"));
+        var mask = enter("I", 1);
+        method.local(ISTORE, mask);
+        for (var idx = 0; idx < rule.slots.length; idx++) {
+            var slot = rule.slots[idx];
+            if (slot < 0) {
+                rule(rule.rules.get(idx), value);
+            } else {
+                failUnless(rule.violation(idx), fail -> method.local(ILOAD, mask)
+                        .pushInt(1 << slot)
+                        .op(IAND)
+                        .jump(IFNE, fail));
+            }
+        }
+        exit(1);
+    }
+
+    private void longField(LongFieldRule<?> rule, int value) {
+        var method = method();
+        constant(rule.extractor, "java/util/function/ToLongFunction");
+        method.local(ALOAD, value)
+                .invokeInterface(
+                        writer.interfaceMethodRef(
+                                "java/util/function/ToLongFunction", "applyAsLong", "(Ljava/lang/Object;)J"),
+                        1);
+        var number = enter("J", 2);
+        method.local(LSTORE, number);
+        for (var idx = 0; idx < rule.violations.length; idx++) {
+            var predicate = rule.predicates[idx];
+            var min = rule.mins[idx];
+            var max = rule.maxs[idx];
+            failUnless(rule.violations[idx], fail -> {
+                if (predicate != null) {
+                    constant(predicate, "java/util/function/LongPredicate");
+                    method.local(LLOAD, number)
+                            .invokeInterface(
+                                    writer.interfaceMethodRef("java/util/function/LongPredicate", "test", "(J)Z"), 2)
+                            .jump(IFEQ, fail);
+                    return;
+                }
+                if (min != Long.MIN_VALUE) {
+                    method.local(LLOAD, number).pushLong(min).op(LCMP).jump(IFLT, fail);
+                }
+                if (max != Long.MAX_VALUE) {
+                    method.local(LLOAD, number).pushLong(max).op(LCMP).jump(IFGT, fail);
+                }
+            });
+        }
+        exit(2);
+    }
+
+    private void doubleField(DoubleFieldRule<?> rule, int value) {
+        var method = method();
+        constant(rule.extractor, "java/util/function/ToDoubleFunction");
+        method.local(ALOAD, value)
+                .invokeInterface(
+                        writer.interfaceMethodRef(
+                                "java/util/function/ToDoubleFunction", "applyAsDouble", "(Ljava/lang/Object;)D"),
+                        1);
+        var number = enter("D", 2);
+        method.local(DSTORE, number);
+        for (var idx = 0; idx < rule.violations.length; idx++) {
+            var predicate = rule.predicates[idx];
+            var min = rule.mins[idx];
+            var max = rule.maxs[idx];
+            failUnless(rule.violations[idx], fail -> {
+                if (predicate != null) {
+                    constant(predicate, "java/util/function/DoublePredicate");
+                    method.local(DLOAD, number)
+                            .invokeInterface(
+                                    writer.interfaceMethodRef("java/util/function/DoublePredicate", "test", "(D)Z"),
+                                    2)
+                            .jump(IFEQ, fail);
+                    return;
+                }
+                // NaN fails both comparisons, as in DoubleFieldRule
+                method.local(DLOAD, number).pushDouble(min).op(DCMPL).jump(IFLT, fail);
+                method.local(DLOAD, number).pushDouble(max).op(DCMPG).jump(IFGT, fail);
+            });
+        }
+        exit(2);
+    }
+
+    private void opaque(Rule<?> rule, int value) {
+        var method = method();
+        if (applyMode) {
+            constant(rule, RULE);
+            method.local(ALOAD, value)
+                    .local(ALOAD, 2)
+                    .invokeInterface(
+                            writer.interfaceMethodRef(
+                                    RULE, "apply", "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;"),
+                            2)
+                    .op2(CHECKCAST, writer.classRef(VIOLATIONS))
+                    .local(ASTORE, 2);
+        } else {
+            failUnless(null, fail -> {
+                constant(rule, RULE);
+                method.local(ALOAD, value)
+                        .invokeInterface(writer.interfaceMethodRef(RULE, "test", "(Ljava/lang/Object;)Z"), 1)
+                        .jump(IFEQ, fail);
+            });
+        }
+    }
+
+    /**
+     * Emits {@code condition}, which jumps to the given label when the check fails, followed by the failure branch:
+     * adding {@code violation} in apply mode, or returning {@code false} in test mode.
+     */
+    private void failUnless(@Nullable Violation violation, Consumer<ClassFileWriter.Label> condition) {
+        var method = method();
+        var fail = label();
+        var pass = label();
+        condition.accept(fail);
+        method.jump(GOTO, pass).place(fail);
+        if (applyMode) {
+            if (violation == null) {
+                throw new IllegalStateException("Check without violation");
+            }
+            addViolation(violation);
+        } else {
+            method.op(ICONST_0).op(IRETURN);
+        }
+        method.place(pass);
+    }
+
+    private void addViolation(Violation violation) {
+        var method = method();
+        method.local(ALOAD, 2);
+        constant(violation, VIOLATION);
+        method.invokeInterface(
+                        writer.interfaceMethodRef(VIOLATIONS, "add", "(L" + VIOLATION + ";)L" + VIOLATIONS + ";"),
+                        1)
+                .local(ASTORE, 2);
+    }
+
+    private ClassFileWriter.Method length(int value) {
+        return charSequence(value).invokeInterface(writer.interfaceMethodRef(CHAR_SEQUENCE, "length", "()I"), 0);
+    }
+
+    private ClassFileWriter.Method charSequence(int value) {
+        return method().local(ALOAD, value).op2(CHECKCAST, writer.classRef(CHAR_SEQUENCE));
+    }
+
+    private void constant(@Nullable Object value, String type) {
+        if (value == null) {
+            throw new IllegalStateException("Generated constants must not be null");
+        }
+        var index = constantIndices.get(value);
+        if (index == null) {
+            index = constants.size();
+            constants.add(value);
+            constantIndices.put(value, index);
+        }
+        method().local(ALOAD, 0)
+                .op2(GETFIELD, writer.fieldRef(CLASS_NAME, CONSTANTS, "[Ljava/lang/Object;"))
+                .pushInt(index)
+                .op(AALOAD)
+                .op2(CHECKCAST, writer.classRef(type));
+    }
+
+    private ClassFileWriter.Label label() {
+        return new ClassFileWriter.Label(scope);
+    }
+
+    private int enter(String type, int slots) {
+        var slot = nextSlot;
+        scope.add(type);
+        nextSlot += slots;
+        maxLocals = Math.max(maxLocals, nextSlot + 1);
+        return slot;
+    }
+
+    private void exit(int slots) {
+        scope.remove(scope.size() - 1);
+        nextSlot -= slots;
+    }
+
+    private static @Nullable Method defineHiddenClass() {
+        try {
+            var options = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            return MethodHandles.Lookup.class.getMethod(
+                    "defineHiddenClass", byte[].class, boolean.class, Array.newInstance(options, 0).getClass());
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.varlanv.konstraints;
+
+/**
+ * Settings of {@link ValidationSpec#cached(CacheConfig)}. Instances are immutable; {@code with} methods return
+ * updated copies.
+ */
+public final class CacheConfig {
+
+    private final int maximumSize;
+    private final boolean identityKeys;
+
+    private CacheConfig(int maximumSize, boolean identityKeys) {
+        this.maximumSize = maximumSize;
+        this.identityKeys = identityKeys;
+    }
+
+    /**
+     * Returns a config for a cache of at most {@code maximumSize} verdicts, keyed by {@code equals}/{@code hashCode}.
+     */
+    public static CacheConfig maximumSize(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        return new CacheConfig(maximumSize, false);
+    }
+
+    /**
+     * Returns a copy that keys verdicts by subject reference instead of {@code equals}/{@code hashCode}, for
+     * subjects that are shared but expensive to compare or hash.
+     */
+    public CacheConfig withIdentityKeys() {
+        return identityKeys ? this : new CacheConfig(maximumSize, true);
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public boolean identityKeys() {
+        return identityKeys;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheConfig[maximumSize=" + maximumSize + ", identityKeys=" + identityKeys + "]";
+    }
+}
@@ -0,0 +1,14 @@
+package com.varlanv.konstraints;
+
+/**
+ * Spec that remembers verdicts of the subjects it has seen. See {@link ValidationSpec#cached(CacheConfig)}.
+ */
+public interface CachedValidationSpec<SUBJECT> extends ValidationSpec<SUBJECT> {
+
+    CacheStats stats();
+
+    /**
+     * Forgets all remembered verdicts, e.g. after rules that depend on external state changed their mind.
+     */
+    void invalidateAll();
+}
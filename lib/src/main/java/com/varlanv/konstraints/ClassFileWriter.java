@@ -0,0 +1,386 @@
+package com.varlanv.konstraints;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal class file writer for {@link BytecodeGenerator}: a constant pool, fields, and methods whose code branches
+ * only with an empty operand stack. Every branch target is a {@link Label} that carries the types of the live
+ * locals, which is all that is needed to emit full {@code StackMapTable} frames.
+ */
+final class ClassFileWriter {
+
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+
+    // class file version of Java 11, the oldest runtime the library supports
+    private static final int VERSION = 55;
+
+    private final Bytes pool = new Bytes();
+    private final Map<String, Integer> entries = new HashMap<>();
+    private int poolSize = 1;
+    private final int thisClass;
+    private final int superClass;
+    private final int[] interfaces;
+    private final Bytes fields = new Bytes();
+    private int fieldCount;
+    private final Bytes methods = new Bytes();
+    private int methodCount;
+
+    ClassFileWriter(String name, String superName, String... interfaceNames) {
+        thisClass = classRef(name);
+        superClass = classRef(superName);
+        interfaces = new int[interfaceNames.length];
+        for (var idx = 0; idx < interfaceNames.length; idx++) {
+            interfaces[idx] = classRef(interfaceNames[idx]);
+        }
+    }
+
+    int utf8(String value) {
+        var key = "U" + value;
+        var index = entries.get(key);
+        if (index != null) {
+            return index;
+        }
+        pool.u1(1);
+        var start = pool.size;
+        pool.u2(0);
+        for (var idx = 0; idx < value.length(); idx++) {
+            var ch = value.charAt(idx);
+            if (ch != 0 && ch < 0x80) {
+                pool.u1(ch);
+            } else if (ch < 0x800) {
+                pool.u1(0xC0 | ch >> 6);
+                pool.u1(0x80 | ch & 0x3F);
+            } else {
+                pool.u1(0xE0 | ch >> 12);
+                pool.u1(0x80 | ch >> 6 & 0x3F);
+                pool.u1(0x80 | ch & 0x3F);
+            }
+        }
+        var length = pool.size - start - 2;
+        if (length > 0xFFFF) {
+            throw new IllegalStateException("Constant is too long");
+        }
+        pool.set2(start, length);
+        return register(key, 1);
+    }
+
+    int classRef(String internalName) {
+        var key = "C" + internalName;
+        var index = entries.get(key);
+        if (index != null) {
+            return index;
+        }
+        var name = utf8(internalName);
+        pool.u1(7).u2(name);
+        return register(key, 1);
+    }
+
+    int fieldRef(String owner, String name, String descriptor) {
+        return memberRef(9, owner, name, descriptor);
+    }
+
+    int methodRef(String owner, String name, String descriptor) {
+        return memberRef(10, owner, name, descriptor);
+    }
+
+    int interfaceMethodRef(String owner, String name, String descriptor) {
+        return memberRef(11, owner, name, descriptor);
+    }
+
+    int longConstant(long value) {
+        var key = "J" + value;
+        var index = entries.get(key);
+        if (index != null) {
+            return index;
+        }
+        pool.u1(5).u4((int) (value >>> 32)).u4((int) value);
+        return register(key, 2);
+    }
+
+    int doubleConstant(double value) {
+        var bits = Double.doubleToRawLongBits(value);
+        var key = "D" + bits;
+        var index = entries.get(key);
+        if (index != null) {
+            return index;
+        }
+        pool.u1(6).u4((int) (bits >>> 32)).u4((int) bits);
+        return register(key, 2);
+    }
+
+    int intConstant(int value) {
+        var key = "I" + value;
+        var index = entries.get(key);
+        if (index != null) {
+            return index;
+        }
+        pool.u1(3).u4(value);
+        return register(key, 1);
+    }
+
+    void field(int access, String name, String descriptor) {
+        fields.u2(access).u2(utf8(name)).u2(utf8(descriptor)).u2(0);
+        fieldCount++;
+    }
+
+    Method method(int access, String name, String descriptor) {
+        return new Method(access, name, descriptor);
+    }
+
+    byte[] toByteArray() {
+        var out = new Bytes();
+        out.u4(0xCAFEBABE).u2(0).u2(VERSION);
+        out.u2(poolSize).bytes(pool);
+        out.u2(ACC_PUBLIC | ACC_FINAL | ACC_SUPER).u2(thisClass).u2(superClass);
+        out.u2(interfaces.length);
+        for (var iface : interfaces) {
+            out.u2(iface);
+        }
+        out.u2(fieldCount).bytes(fields);
+        out.u2(methodCount).bytes(methods);
+        out.u2(0);
+        return Arrays.copyOf(out.data, out.size);
+    }
+
+    private int memberRef(int tag, String owner, String name, String descriptor) {
+        var key = tag + owner + '.' + name + descriptor;
+        var index = entries.get(key);
+        if (index != null) {
+            return index;
+        }
+        var ownerIndex = classRef(owner);
+        var nameAndType = nameAndType(name, descriptor);
+        pool.u1(tag).u2(ownerIndex).u2(nameAndType);
+        return register(key, 1);
+    }
+
+    private int nameAndType(String name, String descriptor) {
+        var key = "N" + name + ' ' + descriptor;
+        var index = entries.get(key);
+        if (index != null) {
+            return index;
+        }
+        var nameIndex = utf8(name);
+        var descriptorIndex = utf8(descriptor);
+        pool.u1(12).u2(nameIndex).u2(descriptorIndex);
+        return register(key, 1);
+    }
+
+    private int register(String key, int slots) {
+        var index = poolSize;
+        poolSize += slots;
+        if (poolSize > 0xFFFF) {
+            throw new IllegalStateException("Constant pool is too large");
+        }
+        entries.put(key, index);
+        return index;
+    }
+
+    /**
+     * Branch target. {@code locals} are the verification types of the locals live at the target: {@code "I"},
+     * {@code "J"}, {@code "D"} or an internal class name.
+     */
+    static final class Label {
+
+        private final List<String> locals;
+        private int position = -1;
+        private final List<Integer> jumps = new ArrayList<>();
+
+        Label(List<String> locals) {
+            this.locals = List.copyOf(locals);
+        }
+    }
+
+    final class Method {
+
+        private final int access;
+        private final String name;
+        private final String descriptor;
+        private final Bytes code = new Bytes();
+        private final List<Label> labels = new ArrayList<>();
+
+        private Method(int access, String name, String descriptor) {
+            this.access = access;
+            this.name = name;
+            this.descriptor = descriptor;
+        }
+
+        Method op(int opcode) {
+            code.u1(opcode);
+            return this;
+        }
+
+        Method op(int opcode, int operand) {
+            code.u1(opcode).u1(operand);
+            return this;
+        }
+
+        Method op2(int opcode, int operand) {
+            code.u1(opcode).u2(operand);
+            return this;
+        }
+
+        Method invokeInterface(int methodRef, int argumentSlots) {
+            code.u1(Opcodes.INVOKEINTERFACE).u2(methodRef).u1(argumentSlots + 1).u1(0);
+            return this;
+        }
+
+        Method local(int opcode, int slot) {
+            if (slot > 0xFF) {
+                code.u1(Opcodes.WIDE).u1(opcode).u2(slot);
+            } else {
+                code.u1(opcode).u1(slot);
+            }
+            return this;
+        }
+
+        Method pushInt(int value) {
+            if (value >= -1 && value <= 5) {
+                code.u1(Opcodes.ICONST_0 + value);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                code.u1(Opcodes.BIPUSH).u1(value);
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                code.u1(Opcodes.SIPUSH).u2(value);
+            } else {
+                code.u1(Opcodes.LDC_W).u2(intConstant(value));
+            }
+            return this;
+        }
+
+        Method pushLong(long value) {
+            if (value == 0 || value == 1) {
+                code.u1(Opcodes.LCONST_0 + (int) value);
+            } else {
+                code.u1(Opcodes.LDC2_W).u2(longConstant(value));
+            }
+            return this;
+        }
+
+        Method pushDouble(double value) {
+            code.u1(Opcodes.LDC2_W).u2(doubleConstant(value));
+            return this;
+        }
+
+        Method jump(int opcode, Label label) {
+            label.jumps.add(code.size);
+            code.u1(opcode).u2(0);
+            return this;
+        }
+
+        Method place(Label label) {
+            label.position = code.size;
+            labels.add(label);
+            return this;
+        }
+
+        void end(int maxStack, int maxLocals) {
+            var frames = new Bytes();
+            var frameCount = 0;
+            var previous = -1;
+            labels.sort((left, right) -> Integer.compare(left.position, right.position));
+            for (var idx = 0; idx < labels.size(); idx++) {
+                var label = labels.get(idx);
+                for (var jump : label.jumps) {
+                    var offset = label.position - jump;
+                    if (offset < Short.MIN_VALUE || offset > Short.MAX_VALUE) {
+                        throw new IllegalStateException("Method is too large");
+                    }
+                    code.set2(jump + 1, offset);
+                }
+                // labels at the same position: the one placed last belongs to the outermost scope and fits all jumps
+                if (idx + 1 < labels.size() && labels.get(idx + 1).position == label.position) {
+                    continue;
+                }
+                frames.u1(255).u2(previous < 0 ? label.position : label.position - previous - 1);
+                var locals = label.locals;
+                frames.u2(locals.size());
+                for (var type : locals) {
+                    verificationType(frames, type);
+                }
+                frames.u2(0);
+                previous = label.position;
+                frameCount++;
+            }
+            if (code.size > 0xFFFF) {
+                throw new IllegalStateException("Method is too large");
+            }
+            methods.u2(access).u2(utf8(name)).u2(utf8(descriptor));
+            var stackMapTable = frameCount == 0 ? 0 : utf8("StackMapTable");
+            var codeAttribute = utf8("Code");
+            methods.u2(1).u2(codeAttribute);
+            var frameBytes = frameCount == 0 ? 0 : 6 + 2 + frames.size;
+            methods.u4(2 + 2 + 4 + code.size + 2 + 2 + frameBytes);
+            methods.u2(maxStack).u2(maxLocals).u4(code.size).bytes(code).u2(0);
+            if (frameCount == 0) {
+                methods.u2(0);
+            } else {
+                methods.u2(1).u2(stackMapTable).u4(2 + frames.size).u2(frameCount).bytes(frames);
+            }
+            methodCount++;
+        }
+
+        private void verificationType(Bytes frames, String type) {
+            switch (type) {
+                case "I":
+                    frames.u1(1);
+                    break;
+                case "J":
+                    frames.u1(4);
+                    break;
+                case "D":
+                    frames.u1(3);
+                    break;
+                default:
+                    frames.u1(7).u2(classRef(type));
+            }
+        }
+    }
+
+    private static final class Bytes {
+
+        private byte[] data = new byte[256];
+        private int size;
+
+        Bytes u1(int value) {
+            ensure(1);
+            data[size++] = (byte) value;
+            return this;
+        }
+
+        Bytes u2(int value) {
+            ensure(2);
+            data[size++] = (byte) (value >>> 8);
+            data[size++] = (byte) value;
+            return this;
+        }
+
+        Bytes u4(int value) {
+            return u2(value >>> 16).u2(value);
+        }
+
+        Bytes bytes(Bytes other) {
+            ensure(other.size);
+            System.arraycopy(other.data, 0, data, size, other.size);
+            size += other.size;
+            return this;
+        }
+
+        void set2(int at, int value) {
+            data[at] = (byte) (value >>> 8);
+            data[at + 1] = (byte) value;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, size + extra));
+            }
+        }
+    }
+}
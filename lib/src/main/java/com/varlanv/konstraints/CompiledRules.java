@@ -0,0 +1,74 @@
+package com.varlanv.konstraints;
+
+import java.util.List;
+
+final class CompiledRules<SUBJECT> implements Rules<SUBJECT> {
+
+    private final Rules<SUBJECT> source;
+    private final ValidationPlan plan;
+
+    CompiledRules(Rules<SUBJECT> source) {
+        this.source = source;
+        this.plan = ValidationPlan.compile(source.list());
+    }
+
+    ValidationPlan plan() {
+        return plan;
+    }
+
+    @Override
+    public Rules<SUBJECT> add(Rule<SUBJECT> rule) {
+        return source.add(rule).compile();
+    }
+
+    @Override
+    public Rules<SUBJECT> merge(Rules<SUBJECT> other) {
+        return source.merge(other).compile();
+    }
+
+    @Override
+    public Violations apply(SUBJECT t) {
+        return ImmutableTrustedViolations.of(
+                plan.execute(t, EmptyToMutableViolations.INSTANCE, false).list());
+    }
+
+    @Override
+    public Violations apply(SUBJECT t, Violations accumulator) {
+        return plan.execute(t, accumulator, false);
+    }
+
+    @Override
+    public Violations applyFirst(SUBJECT t) {
+        return plan.execute(t, Violations.create(), true);
+    }
+
+    @Override
+    public void applyBatch(List<SUBJECT> subjects, int from, int to, Violations[] accumulators) {
+        plan.executeBatch(subjects, from, to, accumulators);
+    }
+
+    @Override
+    public Violations applyRule(int index, SUBJECT t, Violations accumulator) {
+        return plan.executeSegment(t, index, accumulator, false);
+    }
+
+    @Override
+    public boolean test(SUBJECT t) {
+        return plan.test(t);
+    }
+
+    @Override
+    public List<Rule<SUBJECT>> list() {
+        return source.list();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return source.isEmpty();
+    }
+
+    @Override
+    public Rules<SUBJECT> compile() {
+        return this;
+    }
+}
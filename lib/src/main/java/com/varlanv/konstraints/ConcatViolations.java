@@ -0,0 +1,94 @@
+package com.varlanv.konstraints;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Rope node joining two non-empty immutable violations without copying them. The flattened array is built once,
+ * on the first {@link #list()} call.
+ */
+final class ConcatViolations implements Violations {
+
+    private final Violations left;
+    private final Violations right;
+    private final int size;
+
+    private volatile Violation @Nullable [] flattened;
+
+    ConcatViolations(Violations left, Violations right) {
+        this.left = left;
+        this.right = right;
+        this.size = sizeOf(left) + sizeOf(right);
+    }
+
+    @Override
+    public List<Violation> list() {
+        var items = flattened;
+        if (items == null) {
+            items = flatten();
+            flattened = items;
+        }
+        return new ImmutableTrustedViolations.ArrayView(items, size);
+    }
+
+    @Override
+    public Violations add(Violation violation) {
+        if (right instanceof ImmutableTrustedViolations) {
+            var appended = ((ImmutableTrustedViolations) right).tryAppend(violation);
+            if (appended != null) {
+                return new ConcatViolations(left, appended);
+            }
+        }
+        return new ConcatViolations(this, ImmutableTrustedViolations.start(violation, size));
+    }
+
+    @Override
+    public Violations merge(Violations other) {
+        return other.isEmpty() ? this : new ConcatViolations(this, ImmutableTrustedViolations.copyOf(other));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    private Violation[] flatten() {
+        var result = new Violation[size];
+        var offset = 0;
+        var pending = new ArrayDeque<Violations>();
+        pending.push(this);
+        while (!pending.isEmpty()) {
+            var node = pending.pop();
+            if (node instanceof ConcatViolations) {
+                var concat = (ConcatViolations) node;
+                var cached = concat.flattened;
+                if (cached != null) {
+                    System.arraycopy(cached, 0, result, offset, concat.size);
+                    offset += concat.size;
+                } else {
+                    pending.push(concat.right);
+                    pending.push(concat.left);
+                }
+            } else if (node instanceof ImmutableTrustedViolations) {
+                var leaf = (ImmutableTrustedViolations) node;
+                leaf.copyTo(result, offset);
+                offset += leaf.size();
+            } else {
+                for (var violation : node.list()) {
+                    result[offset++] = violation;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int sizeOf(Violations violations) {
+        if (violations instanceof ConcatViolations) {
+            return ((ConcatViolations) violations).size;
+        } else if (violations instanceof ImmutableTrustedViolations) {
+            return ((ImmutableTrustedViolations) violations).size();
+        }
+        return violations.list().size();
+    }
+}
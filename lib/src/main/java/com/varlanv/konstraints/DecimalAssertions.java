@@ -0,0 +1,126 @@
+package com.varlanv.konstraints;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.Range;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Assertions on {@link BigDecimal} values that never format the value or build intermediate decimals. Precision and
+ * scale come from {@link BigDecimal#precision()} and {@link BigDecimal#scale()}, which are cached by the value itself.
+ * Bounds are normalized when the spec is built into their sign and adjusted exponent, so a value of a different sign
+ * or order of magnitude is decided without {@link BigDecimal#compareTo(BigDecimal)}.
+ */
+public final class DecimalAssertions<SUBJECT> {
+
+    private final NullSpec<SUBJECT> parent;
+    final Rules<BigDecimal> rules;
+
+    DecimalAssertions(NullSpec<SUBJECT> parent, Rules<BigDecimal> rules) {
+        this.parent = parent;
+        this.rules = rules;
+    }
+
+    public DecimalAssertions<SUBJECT> check(String message, Predicate<@NonNull BigDecimal> action) {
+        return withRule(TargetCheck.predicate(action, violation(message)));
+    }
+
+    public DecimalAssertions<SUBJECT> maxPrecision(@Range(from = 1, to = Integer.MAX_VALUE) int maxPrecision) {
+        return withRule(TargetCheck.predicate(
+                value -> value.precision() <= maxPrecision, violation("precision must be at most " + maxPrecision)));
+    }
+
+    public DecimalAssertions<SUBJECT> maxScale(int maxScale) {
+        return withRule(TargetCheck.predicate(
+                value -> value.scale() <= maxScale, violation("scale must be at most " + maxScale)));
+    }
+
+    /**
+     * Limits digits before and after the decimal point, trailing zeros of the scale included.
+     */
+    public DecimalAssertions<SUBJECT> digits(
+            @Range(from = 0, to = Integer.MAX_VALUE) int integer,
+            @Range(from = 0, to = Integer.MAX_VALUE) int fraction) {
+        return withRule(TargetCheck.predicate(
+                value -> value.scale() <= fraction && (long) value.precision() - value.scale() <= integer,
+                violation("must have at most " + integer + " integer and " + fraction + " fraction digits")));
+    }
+
+    public DecimalAssertions<SUBJECT> positive() {
+        return withRule(TargetCheck.predicate(value -> value.signum() > 0, violation("must be positive")));
+    }
+
+    public DecimalAssertions<SUBJECT> nonNegative() {
+        return withRule(TargetCheck.predicate(value -> value.signum() >= 0, violation("must not be negative")));
+    }
+
+    public DecimalAssertions<SUBJECT> gte(BigDecimal min) {
+        var bound = new Bound(min);
+        return withRule(TargetCheck.predicate(
+                value -> bound.compareTo(value) <= 0,
+                violation("must be greater than or equal to " + min.toPlainString())));
+    }
+
+    public DecimalAssertions<SUBJECT> lte(BigDecimal max) {
+        var bound = new Bound(max);
+        return withRule(TargetCheck.predicate(
+                value -> bound.compareTo(value) >= 0,
+                violation("must be less than or equal to " + max.toPlainString())));
+    }
+
+    public DecimalAssertions<SUBJECT> inRange(BigDecimal min, BigDecimal max) {
+        var lower = new Bound(min);
+        var upper = new Bound(max);
+        if (min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("min must be less than or equal to max");
+        }
+        return withRule(TargetCheck.predicate(
+                value -> lower.compareTo(value) <= 0 && upper.compareTo(value) >= 0,
+                violation("must be between " + min.toPlainString() + " and " + max.toPlainString())));
+    }
+
+    private DecimalAssertions<SUBJECT> withRule(Rule<BigDecimal> rule) {
+        return new DecimalAssertions<>(parent, rules.add(rule));
+    }
+
+    private Violation violation(String message) {
+        return Violation.of(parent.parent.fieldName, message);
+    }
+
+    private static final class Bound {
+
+        private final BigDecimal value;
+        private final int signum;
+        // exponent of the most significant digit, e.g. 2 for 123.4 and -2 for 0.0123
+        private final long adjusted;
+
+        Bound(BigDecimal value) {
+            this.value = Objects.requireNonNull(value, "nulls are not supported");
+            this.signum = value.signum();
+            this.adjusted = adjusted(value);
+        }
+
+        /**
+         * Compares this bound with {@code other}. Only values of the same sign and order of magnitude reach
+         * {@link BigDecimal#compareTo(BigDecimal)}.
+         */
+        int compareTo(BigDecimal other) {
+            var otherSignum = other.signum();
+            if (signum != otherSignum) {
+                return Integer.compare(signum, otherSignum);
+            } else if (signum == 0) {
+                return 0;
+            }
+            var otherAdjusted = adjusted(other);
+            if (adjusted != otherAdjusted) {
+                return adjusted > otherAdjusted ? signum : -signum;
+            }
+            return value.compareTo(other);
+        }
+
+        private static long adjusted(BigDecimal value) {
+            return (long) value.precision() - value.scale() - 1;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.varlanv.konstraints;
+
+import java.util.function.DoublePredicate;
+
+/**
+ * Range checks on a {@code double} field. {@code NaN} fails every range check.
+ */
+public final class DoubleAssertions<SUBJECT> {
+
+    private final FieldSpec<SUBJECT> parent;
+    final DoubleFieldRule<SUBJECT> rule;
+
+    DoubleAssertions(FieldSpec<SUBJECT> parent, DoubleFieldRule<SUBJECT> rule) {
+        this.parent = parent;
+        this.rule = rule;
+    }
+
+    public DoubleAssertions<SUBJECT> check(String message, DoublePredicate action) {
+        return new DoubleAssertions<>(parent, rule.withPredicate(action, violation(message)));
+    }
+
+    public DoubleAssertions<SUBJECT> gte(double min) {
+        return withRange(bound(min), Double.POSITIVE_INFINITY, "must be greater than or equal to " + min);
+    }
+
+    public DoubleAssertions<SUBJECT> gt(double min) {
+        var message = "must be greater than " + min;
+        return bound(min) == Double.POSITIVE_INFINITY
+                ? withRange(1, 0, message)
+                : withRange(Math.nextUp(min), Double.POSITIVE_INFINITY, message);
+    }
+
+    public DoubleAssertions<SUBJECT> lte(double max) {
+        return withRange(Double.NEGATIVE_INFINITY, bound(max), "must be less than or equal to " + max);
+    }
+
+    public DoubleAssertions<SUBJECT> lt(double max) {
+        var message = "must be less than " + max;
+        return bound(max) == Double.NEGATIVE_INFINITY
+                ? withRange(1, 0, message)
+                : withRange(Double.NEGATIVE_INFINITY, Math.nextDown(max), message);
+    }
+
+    public DoubleAssertions<SUBJECT> inRange(double min, double max) {
+        if (bound(min) > bound(max)) {
+            throw new IllegalArgumentException("min must be less than or equal to max");
+        }
+        return withRange(min, max, "must be between " + min + " and " + max);
+    }
+
+    private DoubleAssertions<SUBJECT> withRange(double min, double max, String message) {
+        return new DoubleAssertions<>(parent, rule.withRange(min, max, violation(message)));
+    }
+
+    private Violation violation(String message) {
+        return Violation.of(parent.fieldName, message);
+    }
+
+    private static double bound(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("bound must not be NaN");
+        }
+        return value;
+    }
+}
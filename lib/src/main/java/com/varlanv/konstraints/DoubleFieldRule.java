@@ -0,0 +1,112 @@
+package com.varlanv.konstraints;
+
+import java.util.Arrays;
+import java.util.function.DoublePredicate;
+import java.util.function.ToDoubleFunction;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Checks of a {@code double} field, the floating point counterpart of {@link LongFieldRule}. Range checks fail for
+ * {@code NaN}, since every comparison with it is false.
+ */
+final class DoubleFieldRule<SUBJECT> implements Rule<SUBJECT> {
+
+    final ToDoubleFunction<SUBJECT> extractor;
+    final double[] mins;
+    final double[] maxs;
+    // a predicate replaces the range check at the same index
+    final @Nullable DoublePredicate[] predicates;
+    final Violation[] violations;
+
+    private DoubleFieldRule(
+            ToDoubleFunction<SUBJECT> extractor,
+            double[] mins,
+            double[] maxs,
+            @Nullable DoublePredicate[] predicates,
+            Violation[] violations) {
+        this.extractor = extractor;
+        this.mins = mins;
+        this.maxs = maxs;
+        this.predicates = predicates;
+        this.violations = violations;
+    }
+
+    static <SUBJECT> DoubleFieldRule<SUBJECT> of(ToDoubleFunction<SUBJECT> extractor) {
+        return new DoubleFieldRule<>(extractor, new double[0], new double[0], new DoublePredicate[0], new Violation[0]);
+    }
+
+    DoubleFieldRule<SUBJECT> withRange(double min, double max, Violation violation) {
+        return with(min, max, null, violation);
+    }
+
+    DoubleFieldRule<SUBJECT> withPredicate(DoublePredicate predicate, Violation violation) {
+        return with(0, 0, predicate, violation);
+    }
+
+    boolean isEmpty() {
+        return violations.length == 0;
+    }
+
+    private DoubleFieldRule<SUBJECT> with(
+            double min, double max, @Nullable DoublePredicate predicate, Violation violation) {
+        var size = violations.length;
+        var newMins = Arrays.copyOf(mins, size + 1);
+        var newMaxs = Arrays.copyOf(maxs, size + 1);
+        var newPredicates = Arrays.copyOf(predicates, size + 1);
+        var newViolations = Arrays.copyOf(violations, size + 1);
+        newMins[size] = min;
+        newMaxs[size] = max;
+        newPredicates[size] = predicate;
+        newViolations[size] = violation;
+        return new DoubleFieldRule<>(extractor, newMins, newMaxs, newPredicates, newViolations);
+    }
+
+    private boolean passes(int idx, double value) {
+        var predicate = predicates[idx];
+        return predicate == null ? value >= mins[idx] && value <= maxs[idx] : predicate.test(value);
+    }
+
+    @Override
+    public Violations apply(SUBJECT subject, Violations violations) {
+        var value = extractor.applyAsDouble(subject);
+        var result = violations;
+        for (var idx = 0; idx < this.violations.length; idx++) {
+            if (!passes(idx, value)) {
+                result = result.add(this.violations[idx]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Violations applyFirst(SUBJECT subject, Violations violations) {
+        var value = extractor.applyAsDouble(subject);
+        for (var idx = 0; idx < this.violations.length; idx++) {
+            if (!passes(idx, value)) {
+                return violations.add(this.violations[idx]);
+            }
+        }
+        return violations;
+    }
+
+    @Override
+    public boolean test(SUBJECT subject) {
+        var value = extractor.applyAsDouble(subject);
+        for (var idx = 0; idx < violations.length; idx++) {
+            if (!passes(idx, value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String describe() {
+        return violations.length == 0 ? "number field" : "field '" + violations[0].field() + "'";
+    }
+
+    @Override
+    public @Nullable String fieldPath() {
+        return violations.length == 0 ? null : violations[0].field();
+    }
+}
@@ -0,0 +1,159 @@
+package com.varlanv.konstraints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Runs item rules, or an index-aware check, over every element of a collection. Item rules are compiled, so a valid
+ * element allocates nothing. Violations of item rules are reported under {@code items[]} paths, and the placeholder
+ * of this rule is filled with the element index only when an element fails, as a {@link PathViolation} that renders
+ * the path lazily. Nested collections fill their own placeholders first; ours is always to the left of theirs.
+ */
+final class EachItemRule<ITEM> implements Rule<Collection<ITEM>> {
+
+    // ordinal of our "[]" among the placeholders of item paths
+    private final int slot;
+    private final Violation nullViolation;
+    private final Rules<ITEM> rules;
+    private final @Nullable IndexPredicate<ITEM> check;
+    // reported only when check is set
+    private final Violation checkViolation;
+    final boolean needsParents;
+
+    private EachItemRule(
+            String itemPath,
+            Rules<ITEM> rules,
+            @Nullable IndexPredicate<ITEM> check,
+            Violation checkViolation) {
+        this.slot = PathViolation.placeholders(itemPath) - 1;
+        this.nullViolation = Violation.of(itemPath, "is null");
+        this.rules = rules.compile();
+        this.check = check;
+        this.checkViolation = checkViolation;
+        this.needsParents = PathStack.needsParents(rules);
+    }
+
+    static <ITEM> EachItemRule<ITEM> items(String itemPath, Rules<ITEM> rules) {
+        return new EachItemRule<>(itemPath, rules, null, Violation.of(itemPath, "is invalid"));
+    }
+
+    /**
+     * Rule that tests every non-null element with its index.
+     */
+    static <ITEM> EachItemRule<ITEM> check(String itemPath, IndexPredicate<ITEM> check, String message) {
+        return new EachItemRule<>(itemPath, Rules.empty(), check, Violation.of(itemPath, message));
+    }
+
+    @Override
+    public Violations apply(Collection<ITEM> items, Violations violations) {
+        return run(items, violations, false);
+    }
+
+    @Override
+    public Violations applyFirst(Collection<ITEM> items, Violations violations) {
+        return run(items, violations, true);
+    }
+
+    private Violations run(Collection<ITEM> items, Violations violations, boolean failFast) {
+        var stack = needsParents ? PathStack.current() : null;
+        var result = violations;
+        try {
+            if (items instanceof List && items instanceof RandomAccess) {
+                var list = (List<ITEM>) items;
+                for (int idx = 0, size = list.size(); idx < size; idx++) {
+                    if (stack != null) {
+                        stack.index(idx);
+                    }
+                    result = item(list.get(idx), idx, result, failFast);
+                    if (failFast && !result.isEmpty()) {
+                        return result;
+                    }
+                }
+            } else {
+                var idx = 0;
+                for (var item : items) {
+                    if (stack != null) {
+                        stack.index(idx);
+                    }
+                    result = item(item, idx++, result, failFast);
+                    if (failFast && !result.isEmpty()) {
+                        return result;
+                    }
+                }
+            }
+            return result;
+        } finally {
+            if (stack != null) {
+                stack.index(-1);
+            }
+        }
+    }
+
+    private Violations item(@Nullable ITEM item, int idx, Violations violations, boolean failFast) {
+        if (item == null) {
+            return check == null ? violations.add(indexed(nullViolation, idx)) : violations;
+        }
+        var check = this.check;
+        if (check != null) {
+            return check.test(item, idx) ? violations : violations.add(indexed(checkViolation, idx));
+        }
+        var itemViolations = failFast
+                ? rules.applyFirst(item)
+                : rules.apply(item, EmptyToMutableViolations.INSTANCE);
+        if (itemViolations.isEmpty()) {
+            return violations;
+        }
+        var result = violations;
+        for (var violation : itemViolations.list()) {
+            result = result.add(indexed(violation, idx));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean test(Collection<ITEM> items) {
+        var stack = needsParents ? PathStack.current() : null;
+        try {
+            var idx = 0;
+            if (items instanceof List && items instanceof RandomAccess) {
+                var list = (List<ITEM>) items;
+                for (var size = list.size(); idx < size; idx++) {
+                    if (stack != null) {
+                        stack.index(idx);
+                    }
+                    if (!test(list.get(idx), idx)) {
+                        return false;
+                    }
+                }
+            } else {
+                for (var item : items) {
+                    if (stack != null) {
+                        stack.index(idx);
+                    }
+                    if (!test(item, idx++)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        } finally {
+            if (stack != null) {
+                stack.index(-1);
+            }
+        }
+    }
+
+    private boolean test(@Nullable ITEM item, int idx) {
+        var check = this.check;
+        if (item == null) {
+            return check != null;
+        }
+        return check != null ? check.test(item, idx) : rules.test(item);
+    }
+
+    private Violation indexed(Violation violation, int idx) {
+        return PathViolation.withIndex(violation, slot, idx);
+    }
+}
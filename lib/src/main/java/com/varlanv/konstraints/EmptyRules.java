@@ -21,6 +21,24 @@ final class EmptyRules<SUBJECT> implements Rules<SUBJECT> {
         return Violations.create();
     }
 
+    @Override
+    public Violations apply(SUBJECT t, Violations accumulator) {
+        return accumulator;
+    }
+
+    @Override
+    public Violations applyFirst(SUBJECT t) {
+        return Violations.create();
+    }
+
+    @Override
+    public void applyBatch(List<SUBJECT> subjects, int from, int to, Violations[] accumulators) {}
+
+    @Override
+    public boolean test(SUBJECT t) {
+        return true;
+    }
+
     @Override
     public List<Rule<SUBJECT>> list() {
         return List.of();
@@ -30,4 +48,9 @@ final class EmptyRules<SUBJECT> implements Rules<SUBJECT> {
     public boolean isEmpty() {
         return true;
     }
+
+    @Override
+    public Rules<SUBJECT> compile() {
+        return this;
+    }
 }
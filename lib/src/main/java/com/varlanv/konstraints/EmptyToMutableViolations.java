@@ -16,6 +16,11 @@ final class EmptyToMutableViolations implements Violations {
         return new MutableTrustedViolations().add(violation);
     }
 
+    @Override
+    public Violations merge(Violations other) {
+        return other.isEmpty() ? this : new MutableTrustedViolations().merge(other);
+    }
+
     @Override
     public boolean isEmpty() {
         return true;
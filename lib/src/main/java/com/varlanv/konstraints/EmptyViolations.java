@@ -16,6 +16,11 @@ final class EmptyViolations implements Violations {
         return ImmutableTrustedViolations.of(violation);
     }
 
+    @Override
+    public Violations merge(Violations other) {
+        return ImmutableTrustedViolations.copyOf(other);
+    }
+
     @Override
     public boolean isEmpty() {
         return true;
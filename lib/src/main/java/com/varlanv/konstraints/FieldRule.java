@@ -0,0 +1,84 @@
+package com.varlanv.konstraints;
+
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+
+final class FieldRule<SUBJECT, TARGET> implements Rule<SUBJECT> {
+
+    final String fieldName;
+    final Function<SUBJECT, @Nullable TARGET> extractor;
+    final @Nullable Violation nullViolation;
+    final Rules<TARGET> rules;
+
+    FieldRule(
+            String fieldName,
+            Function<SUBJECT, @Nullable TARGET> extractor,
+            @Nullable Violation nullViolation,
+            Rules<TARGET> rules) {
+        this.fieldName = fieldName;
+        this.extractor = extractor;
+        this.nullViolation = nullViolation;
+        this.rules = rules;
+    }
+
+    static <SUBJECT, TARGET> FieldRule<SUBJECT, TARGET> of(
+            String fieldName, Function<SUBJECT, @Nullable TARGET> extractor, boolean nullable, Rules<TARGET> rules) {
+        return new FieldRule<>(fieldName, extractor, nullable ? null : Violation.of(fieldName, "is null"), rules);
+    }
+
+    @Override
+    public Violations apply(SUBJECT subject, Violations violations) {
+        var target = extractor.apply(subject);
+        if (target == null) {
+            var violation = nullViolation;
+            return violation == null ? violations : violations.add(violation);
+        }
+        var result = violations;
+        for (var rule : rules.list()) {
+            result = rule.apply(target, result);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean test(SUBJECT subject) {
+        var target = extractor.apply(subject);
+        if (target == null) {
+            return nullViolation == null;
+        }
+        var targetRules = rules.list();
+        for (int idx = 0, size = targetRules.size(); idx < size; idx++) {
+            if (!targetRules.get(idx).test(target)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Violations applyFirst(SUBJECT subject, Violations violations) {
+        var target = extractor.apply(subject);
+        if (target == null) {
+            var violation = nullViolation;
+            return violation == null ? violations : violations.add(violation);
+        }
+        var result = violations;
+        for (var rule : rules.list()) {
+            result = rule.applyFirst(target, result);
+            if (!result.isEmpty()) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String describe() {
+        return "field '" + fieldName + "'";
+    }
+
+    @Override
+    public String fieldPath() {
+        return fieldName;
+    }
+}
@@ -2,36 +2,75 @@ package com.varlanv.konstraints;
 
 import org.jspecify.annotations.Nullable;
 
+import java.util.List;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
 
 public final class FieldSpec<SUBJECT> {
 
     final AssertionsSpec<SUBJECT> parent;
     final String fieldName;
+    final RecordComponents.@Nullable Component component;
 
     public FieldSpec(AssertionsSpec<SUBJECT> parent, String fieldName) {
+        this(parent, fieldName, null);
+    }
+
+    FieldSpec(AssertionsSpec<SUBJECT> parent, String fieldName, RecordComponents.@Nullable Component component) {
         this.parent = parent;
         this.fieldName = fieldName;
+        this.component = component;
+    }
+
+    public AssertionsSpec<SUBJECT> assertNotNull() {
+        return assertNotNull(component().function(Object.class));
+    }
+
+    public AssertionsSpec<SUBJECT> assertNull() {
+        return assertNull(component().function(Object.class));
     }
 
     public AssertionsSpec<SUBJECT> assertNotNull(Function<SUBJECT, @Nullable Object> mapper) {
-        return parent.withRule((subject, violations) -> {
-            var val = mapper.apply(subject);
-            if (val == null) {
-                violations.add(Violation.of("is null"));
-            }
-            return violations;
-        });
+        return parent.withRule(FieldRule.of(fieldName, mapper, false, Rules.empty()));
     }
 
     public AssertionsSpec<SUBJECT> assertNull(Function<SUBJECT, @Nullable Object> mapper) {
-        return parent.withRule((subject, violations) -> {
-            var val = mapper.apply(subject);
-            if (val == null) {
-                violations.add(Violation.of("is not null"));
-            }
-            return violations;
-        });
+        return parent.withRule(FieldRule.of(
+            fieldName, mapper, true, Rules.create(List.of(TargetCheck.fail(Violation.of(fieldName, "is not null"))))));
+    }
+
+    public AssertionsSpec<SUBJECT> intField(
+        ToIntFunction<SUBJECT> mapper, UnaryOperator<IntAssertions<SUBJECT>> action) {
+        var assertions = action.apply(new IntAssertions<>(this, LongFieldRule.of(mapper::applyAsInt)));
+        return assertions.rule.isEmpty() ? parent : parent.withRule(assertions.rule);
+    }
+
+    public AssertionsSpec<SUBJECT> intField(UnaryOperator<IntAssertions<SUBJECT>> action) {
+        var assertions = action.apply(new IntAssertions<>(this, LongFieldRule.of(component().toLong(int.class))));
+        return assertions.rule.isEmpty() ? parent : parent.withRule(assertions.rule);
+    }
+
+    public AssertionsSpec<SUBJECT> longField(UnaryOperator<LongAssertions<SUBJECT>> action) {
+        return longField(component().toLong(long.class), action);
+    }
+
+    public AssertionsSpec<SUBJECT> doubleField(UnaryOperator<DoubleAssertions<SUBJECT>> action) {
+        return doubleField(component().toDouble(), action);
+    }
+
+    public AssertionsSpec<SUBJECT> longField(
+        ToLongFunction<SUBJECT> mapper, UnaryOperator<LongAssertions<SUBJECT>> action) {
+        var assertions = action.apply(new LongAssertions<>(this, LongFieldRule.of(mapper)));
+        return assertions.rule.isEmpty() ? parent : parent.withRule(assertions.rule);
+    }
+
+    public AssertionsSpec<SUBJECT> doubleField(
+        ToDoubleFunction<SUBJECT> mapper, UnaryOperator<DoubleAssertions<SUBJECT>> action) {
+        var assertions = action.apply(new DoubleAssertions<>(this, DoubleFieldRule.of(mapper)));
+        return assertions.rule.isEmpty() ? parent : parent.withRule(assertions.rule);
     }
 
     public NullSpec<SUBJECT> nonNull() {
@@ -41,4 +80,13 @@ public final class FieldSpec<SUBJECT> {
     public NullSpec<SUBJECT> nullable() {
         return new NullSpec<>(this, true);
     }
+
+    RecordComponents.Component component() {
+        var component = this.component;
+        if (component == null) {
+            throw new IllegalStateException(
+                    "Field [" + fieldName + "] has no record component, declare it with AssertionsSpec.component");
+        }
+        return component;
+    }
 }
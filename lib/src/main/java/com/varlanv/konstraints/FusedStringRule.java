@@ -0,0 +1,98 @@
+package com.varlanv.konstraints;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rules of one string field where all char-level checks are answered by a single {@link StringScanner} pass. The
+ * original rules are kept in declaration order: fused checks read their outcome from the scan result and the other
+ * rules run as before, so violations are reported exactly as without fusing.
+ */
+final class FusedStringRule<TARGET extends CharSequence> implements Rule<TARGET> {
+
+    final StringScanner scanner;
+    final List<Rule<TARGET>> rules;
+    // scanner slot of each rule, or -1 when the rule is not fused
+    final int[] slots;
+
+    private FusedStringRule(StringScanner scanner, List<Rule<TARGET>> rules, int[] slots) {
+        this.scanner = scanner;
+        this.rules = rules;
+        this.slots = slots;
+    }
+
+    /**
+     * Returns rules where char-level checks are fused into one scan, or {@code rules} itself when fewer than two
+     * checks could share a scan.
+     */
+    static <TARGET extends CharSequence> Rules<TARGET> fuse(Rules<TARGET> rules) {
+        var list = rules.list();
+        var slots = new int[list.size()];
+        var checks = new ArrayList<TargetCheck<?>>();
+        for (var idx = 0; idx < list.size(); idx++) {
+            var rule = list.get(idx);
+            if (rule instanceof TargetCheck
+                    && ((TargetCheck<?>) rule).isCharLevel()
+                    && checks.size() < StringScanner.MAX_CHECKS) {
+                slots[idx] = checks.size();
+                checks.add((TargetCheck<?>) rule);
+            } else {
+                slots[idx] = -1;
+            }
+        }
+        if (checks.size() < 2) {
+            return rules;
+        }
+        return Rules.create(List.of(new FusedStringRule<>(new StringScanner(checks), list, slots)));
+    }
+
+    Violation violation(int idx) {
+        return ((TargetCheck<?>) rules.get(idx)).violation;
+    }
+
+    @Override
+    public Violations apply(TARGET target, Violations violations) {
+        var failed = scanner.scan(target);
+        var result = violations;
+        for (var idx = 0; idx < slots.length; idx++) {
+            var slot = slots[idx];
+            if (slot < 0) {
+                result = rules.get(idx).apply(target, result);
+            } else if ((failed & (1 << slot)) != 0) {
+                result = result.add(violation(idx));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Violations applyFirst(TARGET target, Violations violations) {
+        var failed = scanner.scan(target);
+        var result = violations;
+        for (var idx = 0; idx < slots.length; idx++) {
+            var slot = slots[idx];
+            if (slot < 0) {
+                result = rules.get(idx).applyFirst(target, result);
+                if (!result.isEmpty()) {
+                    return result;
+                }
+            } else if ((failed & (1 << slot)) != 0) {
+                return result.add(violation(idx));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean test(TARGET target) {
+        if (scanner.scan(target) != 0) {
+            return false;
+        }
+        for (var idx = 0; idx < slots.length; idx++) {
+            if (slots[idx] < 0 && !rules.get(idx).test(target)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,90 @@
+package com.varlanv.konstraints;
+
+import java.util.List;
+
+/**
+ * Rules backed by a {@link BytecodeGenerator generated} validator. Only full validation and {@link #test(Object)} run
+ * generated code; fail-fast, batch and per-rule execution stay on the {@link ValidationPlan} of the same rules.
+ */
+final class GeneratedRules<SUBJECT> implements Rules<SUBJECT> {
+
+    private final CompiledRules<SUBJECT> compiled;
+    private final GeneratedValidator validator;
+
+    private GeneratedRules(CompiledRules<SUBJECT> compiled, GeneratedValidator validator) {
+        this.compiled = compiled;
+        this.validator = validator;
+    }
+
+    /**
+     * Generates a validator for {@code source}, or returns its compiled plan when the runtime cannot define hidden
+     * classes or the rules do not fit into generated code.
+     */
+    static <SUBJECT> Rules<SUBJECT> generate(Rules<SUBJECT> source) {
+        var compiled = source.compile();
+        if (!(compiled instanceof CompiledRules) || !BytecodeGenerator.isAvailable()) {
+            return compiled;
+        }
+        try {
+            return new GeneratedRules<>((CompiledRules<SUBJECT>) compiled, BytecodeGenerator.generate(source.list()));
+        } catch (RuntimeException | LinkageError e) {
+            return compiled;
+        }
+    }
+
+    @Override
+    public Rules<SUBJECT> add(Rule<SUBJECT> rule) {
+        return generate(compiled.add(rule));
+    }
+
+    @Override
+    public Rules<SUBJECT> merge(Rules<SUBJECT> other) {
+        return generate(compiled.merge(other));
+    }
+
+    @Override
+    public Violations apply(SUBJECT t) {
+        return ImmutableTrustedViolations.of(
+                validator.apply(t, EmptyToMutableViolations.INSTANCE).list());
+    }
+
+    @Override
+    public Violations apply(SUBJECT t, Violations accumulator) {
+        return validator.apply(t, accumulator);
+    }
+
+    @Override
+    public Violations applyFirst(SUBJECT t) {
+        return compiled.applyFirst(t);
+    }
+
+    @Override
+    public void applyBatch(List<SUBJECT> subjects, int from, int to, Violations[] accumulators) {
+        compiled.applyBatch(subjects, from, to, accumulators);
+    }
+
+    @Override
+    public Violations applyRule(int index, SUBJECT t, Violations accumulator) {
+        return compiled.applyRule(index, t, accumulator);
+    }
+
+    @Override
+    public boolean test(SUBJECT t) {
+        return validator.test(t);
+    }
+
+    @Override
+    public List<Rule<SUBJECT>> list() {
+        return compiled.list();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return compiled.isEmpty();
+    }
+
+    @Override
+    public Rules<SUBJECT> compile() {
+        return this;
+    }
+}
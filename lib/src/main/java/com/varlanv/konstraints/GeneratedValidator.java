@@ -0,0 +1,11 @@
+package com.varlanv.konstraints;
+
+/**
+ * Entry points of a validator class generated by {@link BytecodeGenerator}.
+ */
+interface GeneratedValidator {
+
+    Violations apply(Object subject, Violations violations);
+
+    boolean test(Object subject);
+}
@@ -1,43 +1,151 @@
 package com.varlanv.konstraints;
 
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import org.jspecify.annotations.Nullable;
 
+/**
+ * Persistent violations backed by a shared, growable chunk. A version sees the first {@code count} items of its
+ * chunk. Appending to the newest version claims the next free slot of the chunk in place, so a chain of appends is
+ * O(1) amortized and never copies. Appending to an older version (a fork) copies only that version's items into a
+ * fresh chunk. When a chunk is full, the next item starts a new chunk that is twice as large and is linked through
+ * {@link ConcatViolations}, so the rope depth stays logarithmic.
+ */
 final class ImmutableTrustedViolations implements Violations {
 
-    List<Violation> violations;
+    private static final int MIN_CAPACITY = 4;
 
-    private ImmutableTrustedViolations(List<Violation> violations) {
-        this.violations = violations;
+    private final Chunk chunk;
+    private final int count;
+
+    private ImmutableTrustedViolations(Chunk chunk, int count) {
+        this.chunk = chunk;
+        this.count = count;
     }
 
     static Violations of(Violation violation) {
-        return new ImmutableTrustedViolations(Collections.singletonList(violation));
+        return start(violation, MIN_CAPACITY);
+    }
+
+    static ImmutableTrustedViolations start(Violation violation, int capacity) {
+        var items = new Violation[Math.max(MIN_CAPACITY, capacity)];
+        items[0] = violation;
+        return new ImmutableTrustedViolations(new Chunk(items, 1), 1);
     }
 
     static Violations of(List<Violation> violations) {
-        return violations.isEmpty()
-                ? Violations.create()
-                : new ImmutableTrustedViolations(Collections.unmodifiableList(violations));
+        return violations.isEmpty() ? Violations.create() : adopt(violations.toArray(new Violation[0]));
     }
 
     static Violations of(Violation... violations) {
-        return violations.length == 0 ? Violations.create() : new ImmutableTrustedViolations(Arrays.asList(violations));
+        return violations.length == 0 ? Violations.create() : adopt(violations);
+    }
+
+    /**
+     * Returns {@code violations} itself when it is already immutable, or an immutable copy otherwise.
+     */
+    static Violations copyOf(Violations violations) {
+        if (violations instanceof ImmutableTrustedViolations
+                || violations instanceof ConcatViolations
+                || violations instanceof EmptyViolations) {
+            return violations;
+        }
+        return of(violations.list());
+    }
+
+    private static Violations adopt(Violation[] items) {
+        return new ImmutableTrustedViolations(new Chunk(items, items.length), items.length);
+    }
+
+    int size() {
+        return count;
+    }
+
+    void copyTo(Violation[] target, int offset) {
+        System.arraycopy(chunk.items, 0, target, offset, count);
     }
 
     @Override
     public List<Violation> list() {
-        return violations;
+        return new ArrayView(chunk.items, count);
     }
 
     @Override
     public Violations add(Violation violation) {
-        return new ImmutableTrustedViolations(Internals.newListWithItem(violations, violation));
+        var appended = tryAppend(violation);
+        return appended != null ? appended : new ConcatViolations(this, start(violation, count));
+    }
+
+    /**
+     * Appends within the current chunk, or returns {@code null} when the chunk is full.
+     */
+    @Nullable ImmutableTrustedViolations tryAppend(Violation violation) {
+        var chunk = this.chunk;
+        var count = this.count;
+        if (count >= chunk.items.length) {
+            return null;
+        }
+        if (chunk.claim(count)) {
+            chunk.items[count] = violation;
+            return new ImmutableTrustedViolations(chunk, count + 1);
+        }
+        var forked = new Violation[Math.max(MIN_CAPACITY, count * 2)];
+        System.arraycopy(chunk.items, 0, forked, 0, count);
+        forked[count] = violation;
+        return new ImmutableTrustedViolations(new Chunk(forked, count + 1), count + 1);
+    }
+
+    @Override
+    public Violations merge(Violations other) {
+        return other.isEmpty() ? this : new ConcatViolations(this, copyOf(other));
     }
 
     @Override
     public boolean isEmpty() {
-        return violations.isEmpty();
+        return count == 0;
+    }
+
+    private static final class Chunk {
+
+        private static final AtomicIntegerFieldUpdater<Chunk> USED =
+                AtomicIntegerFieldUpdater.newUpdater(Chunk.class, "used");
+
+        final Violation[] items;
+        volatile int used;
+
+        Chunk(Violation[] items, int used) {
+            this.items = items;
+            this.used = used;
+        }
+
+        boolean claim(int slot) {
+            return used == slot && USED.compareAndSet(this, slot, slot + 1);
+        }
+    }
+
+    static final class ArrayView extends AbstractList<Violation> implements RandomAccess {
+
+        private final Violation[] items;
+        private final int size;
+
+        ArrayView(Violation[] items, int size) {
+            this.items = items;
+            this.size = size;
+        }
+
+        @Override
+        public Violation get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index [" + index + "] out of bounds for size [" + size + "]");
+            }
+            return items[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
     }
 }
@@ -0,0 +1,120 @@
+package com.varlanv.konstraints;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ValidationMetrics} that aggregates measurements in memory, per spec name. Counters are {@link LongAdder}s
+ * and latencies go to {@link LatencyHistogram}s, so recording takes no locks and allocates only the first time a
+ * spec, field or rule is seen. Read methods return live values that a metrics bridge can poll.
+ */
+public final class InMemoryValidationMetrics implements ValidationMetrics {
+
+    private static final LatencyHistogram EMPTY = new LatencyHistogram();
+
+    private final ConcurrentHashMap<String, SpecStats> specs = new ConcurrentHashMap<>();
+
+    InMemoryValidationMetrics() {}
+
+    @Override
+    public void validated(String spec, long nanos, boolean valid) {
+        var stats = stats(spec);
+        stats.invocations.increment();
+        if (!valid) {
+            stats.invalid.increment();
+        }
+        stats.latency.record(nanos);
+    }
+
+    @Override
+    public void rejected(String spec, Violation violation) {
+        counter(stats(spec).fieldRejects, violation.field()).increment();
+    }
+
+    @Override
+    public void ruleSampled(String spec, String rule, long nanos, boolean rejected) {
+        var rules = stats(spec).rules;
+        var stats = rules.get(rule);
+        if (stats == null) {
+            stats = rules.computeIfAbsent(rule, key -> new RuleStats());
+        }
+        stats.latency.record(nanos);
+        if (rejected) {
+            stats.rejects.increment();
+        }
+    }
+
+    public Set<String> specs() {
+        return Set.copyOf(specs.keySet());
+    }
+
+    public long invocations(String spec) {
+        var stats = specs.get(spec);
+        return stats == null ? 0 : stats.invocations.sum();
+    }
+
+    public long invalid(String spec) {
+        var stats = specs.get(spec);
+        return stats == null ? 0 : stats.invalid.sum();
+    }
+
+    public LatencyHistogram latency(String spec) {
+        var stats = specs.get(spec);
+        return stats == null ? EMPTY : stats.latency;
+    }
+
+    /**
+     * Returns the number of violations reported for each field of {@code spec}, ordered by field name.
+     */
+    public Map<String, Long> rejectsByField(String spec) {
+        var result = new TreeMap<String, Long>();
+        var stats = specs.get(spec);
+        if (stats != null) {
+            stats.fieldRejects.forEach((field, count) -> result.put(field, count.sum()));
+        }
+        return result;
+    }
+
+    /**
+     * Returns sampled latencies of a top-level rule, named as in {@link ValidationSpec#describePlan()}.
+     */
+    public LatencyHistogram ruleLatency(String spec, String rule) {
+        var stats = specs.get(spec);
+        var ruleStats = stats == null ? null : stats.rules.get(rule);
+        return ruleStats == null ? EMPTY : ruleStats.latency;
+    }
+
+    public long ruleRejects(String spec, String rule) {
+        var stats = specs.get(spec);
+        var ruleStats = stats == null ? null : stats.rules.get(rule);
+        return ruleStats == null ? 0 : ruleStats.rejects.sum();
+    }
+
+    private SpecStats stats(String spec) {
+        var stats = specs.get(spec);
+        return stats != null ? stats : specs.computeIfAbsent(spec, key -> new SpecStats());
+    }
+
+    private static LongAdder counter(ConcurrentHashMap<String, LongAdder> counters, String key) {
+        var counter = counters.get(key);
+        return counter != null ? counter : counters.computeIfAbsent(key, ignored -> new LongAdder());
+    }
+
+    private static final class SpecStats {
+
+        final LongAdder invocations = new LongAdder();
+        final LongAdder invalid = new LongAdder();
+        final LatencyHistogram latency = new LatencyHistogram();
+        final ConcurrentHashMap<String, LongAdder> fieldRejects = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<String, RuleStats> rules = new ConcurrentHashMap<>();
+    }
+
+    private static final class RuleStats {
+
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder rejects = new LongAdder();
+    }
+}
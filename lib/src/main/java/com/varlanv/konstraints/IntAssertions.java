@@ -0,0 +1,49 @@
+package com.varlanv.konstraints;
+
+import java.util.function.IntPredicate;
+
+public final class IntAssertions<SUBJECT> {
+
+    private final FieldSpec<SUBJECT> parent;
+    final LongFieldRule<SUBJECT> rule;
+
+    IntAssertions(FieldSpec<SUBJECT> parent, LongFieldRule<SUBJECT> rule) {
+        this.parent = parent;
+        this.rule = rule;
+    }
+
+    public IntAssertions<SUBJECT> check(String message, IntPredicate action) {
+        return new IntAssertions<>(parent, rule.withPredicate(value -> action.test((int) value), violation(message)));
+    }
+
+    public IntAssertions<SUBJECT> gte(int min) {
+        return withRange(min, Integer.MAX_VALUE, "must be greater than or equal to " + min);
+    }
+
+    public IntAssertions<SUBJECT> gt(int min) {
+        return withRange((long) min + 1, Integer.MAX_VALUE, "must be greater than " + min);
+    }
+
+    public IntAssertions<SUBJECT> lte(int max) {
+        return withRange(Integer.MIN_VALUE, max, "must be less than or equal to " + max);
+    }
+
+    public IntAssertions<SUBJECT> lt(int max) {
+        return withRange(Integer.MIN_VALUE, (long) max - 1, "must be less than " + max);
+    }
+
+    public IntAssertions<SUBJECT> inRange(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("min must be less than or equal to max");
+        }
+        return withRange(min, max, "must be between " + min + " and " + max);
+    }
+
+    private IntAssertions<SUBJECT> withRange(long min, long max, String message) {
+        return new IntAssertions<>(parent, rule.withRange(min, max, violation(message)));
+    }
+
+    private Violation violation(String message) {
+        return Violation.of(parent.fieldName, message);
+    }
+}
@@ -70,6 +70,24 @@ interface Internals {
         return Arrays.asList(result);
     }
 
+    static String childPath(String parentPath, String fieldName) {
+        if (parentPath.isEmpty()) {
+            return fieldName;
+        } else if (fieldName.isEmpty()) {
+            return parentPath;
+        }
+        return parentPath + "." + fieldName;
+    }
+
+    static boolean isBlank(CharSequence target) {
+        for (int idx = 0, length = target.length(); idx < length; idx++) {
+            if (!Character.isWhitespace(target.charAt(idx))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     static <T> List<T> newListWithItem(List<T> left, T right) {
         var size = left.size();
         if (size == 0) {
@@ -0,0 +1,67 @@
+package com.varlanv.konstraints;
+
+import java.util.Collection;
+import org.jetbrains.annotations.Range;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Assertions on a collection field and its elements. Element violations are reported under the indexed path of the
+ * element, e.g. {@code lines[3].sku}.
+ */
+public final class ItemsAssertions<ITEM, SUBJECT> {
+
+    private final NullSpec<SUBJECT> parent;
+    final Rules<Collection<ITEM>> rules;
+    private final @Nullable Class<ITEM> itemType;
+
+    ItemsAssertions(NullSpec<SUBJECT> parent, Rules<Collection<ITEM>> rules) {
+        this(parent, rules, null);
+    }
+
+    ItemsAssertions(NullSpec<SUBJECT> parent, Rules<Collection<ITEM>> rules, @Nullable Class<ITEM> itemType) {
+        this.parent = parent;
+        this.rules = rules;
+        this.itemType = itemType;
+    }
+
+    public ItemsAssertions<ITEM, SUBJECT> notEmpty() {
+        return withRule(TargetCheck.predicate(items -> !items.isEmpty(), violation("must not be empty")));
+    }
+
+    public ItemsAssertions<ITEM, SUBJECT> minSize(@Range(from = 0, to = Integer.MAX_VALUE) int minSize) {
+        return withRule(TargetCheck.predicate(
+                items -> items.size() >= minSize, violation("size must be at least " + minSize)));
+    }
+
+    public ItemsAssertions<ITEM, SUBJECT> maxSize(@Range(from = 0, to = Integer.MAX_VALUE) int maxSize) {
+        return withRule(TargetCheck.predicate(
+                items -> items.size() <= maxSize, violation("size must be at most " + maxSize)));
+    }
+
+    /**
+     * Validates every element with a nested spec. A {@code null} element is reported as {@code is null}.
+     */
+    public ItemsAssertions<ITEM, SUBJECT> eachItem(AssertionsOperator<ITEM> action) {
+        var itemSpec = action.apply(new AssertionsSpec<>(Rules.empty(), itemPath(), itemType));
+        return withRule(EachItemRule.items(itemPath(), itemSpec.rules()));
+    }
+
+    /**
+     * Tests every non-null element together with its index.
+     */
+    public ItemsAssertions<ITEM, SUBJECT> checkItem(String message, IndexPredicate<ITEM> action) {
+        return withRule(EachItemRule.check(itemPath(), action, message));
+    }
+
+    private String itemPath() {
+        return parent.parent.fieldName + "[]";
+    }
+
+    private ItemsAssertions<ITEM, SUBJECT> withRule(Rule<Collection<ITEM>> rule) {
+        return new ItemsAssertions<>(parent, rules.add(rule), itemType);
+    }
+
+    private Violation violation(String message) {
+        return Violation.of(parent.parent.fieldName, message);
+    }
+}
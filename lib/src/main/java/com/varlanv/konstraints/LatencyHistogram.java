@@ -0,0 +1,97 @@
+package com.varlanv.konstraints;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket log-linear histogram of nanosecond latencies. Every power of two is split into
+ * {@value #SUB_BUCKETS} linear buckets, so a recorded value is off by at most 12.5%, and values up to 2^41 ns,
+ * about 36.6 minutes, are told apart. Buckets are {@link LongAdder}s, so recording never allocates or contends.
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKETS = 8;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int MAX_EXPONENT = 40;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    LatencyHistogram() {
+        for (var idx = 0; idx < BUCKETS; idx++) {
+            buckets[idx] = new LongAdder();
+        }
+    }
+
+    void record(long nanos) {
+        buckets[bucket(nanos)].increment();
+    }
+
+    public long count() {
+        var count = 0L;
+        for (var bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Returns a snapshot of bucket counts, where bucket {@code idx} counts values from
+     * {@link #bucketLowerBound(int) bucketLowerBound(idx)} up to the lower bound of the next bucket.
+     */
+    public long[] counts() {
+        var counts = new long[BUCKETS];
+        for (var idx = 0; idx < BUCKETS; idx++) {
+            counts[idx] = buckets[idx].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the given percentile, or 0 when nothing was recorded.
+     */
+    public long valueAtPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        var counts = counts();
+        var total = 0L;
+        for (var count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        var rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        var seen = 0L;
+        for (var idx = 0; idx < BUCKETS - 1; idx++) {
+            seen += counts[idx];
+            if (seen >= rank) {
+                return bucketLowerBound(idx + 1) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public static long bucketLowerBound(int bucket) {
+        if (bucket < 0 || bucket >= BUCKETS) {
+            throw new IndexOutOfBoundsException("bucket [" + bucket + "] out of [0, " + BUCKETS + ")");
+        }
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        var exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return nanos <= 0 ? 0 : (int) nanos;
+        }
+        var exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        var subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+}
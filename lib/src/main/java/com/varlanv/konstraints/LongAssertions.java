@@ -0,0 +1,52 @@
+package com.varlanv.konstraints;
+
+import java.util.function.LongPredicate;
+
+public final class LongAssertions<SUBJECT> {
+
+    private final FieldSpec<SUBJECT> parent;
+    final LongFieldRule<SUBJECT> rule;
+
+    LongAssertions(FieldSpec<SUBJECT> parent, LongFieldRule<SUBJECT> rule) {
+        this.parent = parent;
+        this.rule = rule;
+    }
+
+    public LongAssertions<SUBJECT> check(String message, LongPredicate action) {
+        return new LongAssertions<>(parent, rule.withPredicate(action, violation(message)));
+    }
+
+    public LongAssertions<SUBJECT> gte(long min) {
+        return withRange(min, Long.MAX_VALUE, "must be greater than or equal to " + min);
+    }
+
+    public LongAssertions<SUBJECT> gt(long min) {
+        var message = "must be greater than " + min;
+        // nothing is greater than Long.MAX_VALUE, so the range is left empty
+        return min == Long.MAX_VALUE ? withRange(1, 0, message) : withRange(min + 1, Long.MAX_VALUE, message);
+    }
+
+    public LongAssertions<SUBJECT> lte(long max) {
+        return withRange(Long.MIN_VALUE, max, "must be less than or equal to " + max);
+    }
+
+    public LongAssertions<SUBJECT> lt(long max) {
+        var message = "must be less than " + max;
+        return max == Long.MIN_VALUE ? withRange(1, 0, message) : withRange(Long.MIN_VALUE, max - 1, message);
+    }
+
+    public LongAssertions<SUBJECT> inRange(long min, long max) {
+        if (min > max) {
+            throw new IllegalArgumentException("min must be less than or equal to max");
+        }
+        return withRange(min, max, "must be between " + min + " and " + max);
+    }
+
+    private LongAssertions<SUBJECT> withRange(long min, long max, String message) {
+        return new LongAssertions<>(parent, rule.withRange(min, max, violation(message)));
+    }
+
+    private Violation violation(String message) {
+        return Violation.of(parent.fieldName, message);
+    }
+}
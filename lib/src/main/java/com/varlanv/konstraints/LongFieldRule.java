@@ -0,0 +1,112 @@
+package com.varlanv.konstraints;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+import java.util.function.ToLongFunction;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Checks of an {@code int} or {@code long} field. The value is extracted once as a primitive and every range check is
+ * a pair of raw comparisons against inclusive bounds, so nothing is boxed. {@code int} fields are widened to
+ * {@code long} on extraction.
+ */
+final class LongFieldRule<SUBJECT> implements Rule<SUBJECT> {
+
+    final ToLongFunction<SUBJECT> extractor;
+    final long[] mins;
+    final long[] maxs;
+    // a predicate replaces the range check at the same index
+    final @Nullable LongPredicate[] predicates;
+    final Violation[] violations;
+
+    private LongFieldRule(
+            ToLongFunction<SUBJECT> extractor,
+            long[] mins,
+            long[] maxs,
+            @Nullable LongPredicate[] predicates,
+            Violation[] violations) {
+        this.extractor = extractor;
+        this.mins = mins;
+        this.maxs = maxs;
+        this.predicates = predicates;
+        this.violations = violations;
+    }
+
+    static <SUBJECT> LongFieldRule<SUBJECT> of(ToLongFunction<SUBJECT> extractor) {
+        return new LongFieldRule<>(extractor, new long[0], new long[0], new LongPredicate[0], new Violation[0]);
+    }
+
+    LongFieldRule<SUBJECT> withRange(long min, long max, Violation violation) {
+        return with(min, max, null, violation);
+    }
+
+    LongFieldRule<SUBJECT> withPredicate(LongPredicate predicate, Violation violation) {
+        return with(0, 0, predicate, violation);
+    }
+
+    boolean isEmpty() {
+        return violations.length == 0;
+    }
+
+    private LongFieldRule<SUBJECT> with(long min, long max, @Nullable LongPredicate predicate, Violation violation) {
+        var size = violations.length;
+        var newMins = Arrays.copyOf(mins, size + 1);
+        var newMaxs = Arrays.copyOf(maxs, size + 1);
+        var newPredicates = Arrays.copyOf(predicates, size + 1);
+        var newViolations = Arrays.copyOf(violations, size + 1);
+        newMins[size] = min;
+        newMaxs[size] = max;
+        newPredicates[size] = predicate;
+        newViolations[size] = violation;
+        return new LongFieldRule<>(extractor, newMins, newMaxs, newPredicates, newViolations);
+    }
+
+    private boolean passes(int idx, long value) {
+        var predicate = predicates[idx];
+        return predicate == null ? value >= mins[idx] && value <= maxs[idx] : predicate.test(value);
+    }
+
+    @Override
+    public Violations apply(SUBJECT subject, Violations violations) {
+        var value = extractor.applyAsLong(subject);
+        var result = violations;
+        for (var idx = 0; idx < this.violations.length; idx++) {
+            if (!passes(idx, value)) {
+                result = result.add(this.violations[idx]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Violations applyFirst(SUBJECT subject, Violations violations) {
+        var value = extractor.applyAsLong(subject);
+        for (var idx = 0; idx < this.violations.length; idx++) {
+            if (!passes(idx, value)) {
+                return violations.add(this.violations[idx]);
+            }
+        }
+        return violations;
+    }
+
+    @Override
+    public boolean test(SUBJECT subject) {
+        var value = extractor.applyAsLong(subject);
+        for (var idx = 0; idx < violations.length; idx++) {
+            if (!passes(idx, value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String describe() {
+        return violations.length == 0 ? "number field" : "field '" + violations[0].field() + "'";
+    }
+
+    @Override
+    public @Nullable String fieldPath() {
+        return violations.length == 0 ? null : violations[0].field();
+    }
+}
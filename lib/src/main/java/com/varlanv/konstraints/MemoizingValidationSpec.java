@@ -0,0 +1,188 @@
+package com.varlanv.konstraints;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Bounded cache of verdicts in front of another spec. Lookups are a lock-free {@link ConcurrentHashMap#get} plus a
+ * reference bit set on the entry; only misses, which run the rules anyway, take a lock to insert. When full, the
+ * cache evicts with the CLOCK algorithm: a hand sweeps a ring of entries, gives every recently used entry a second
+ * chance and evicts the first one that was not used since the previous sweep, which approximates LRU without
+ * reordering anything on hits.
+ *
+ * <p>Verdicts are stored as violations, not as {@link Valid}s, so a hit for an equal but different subject still
+ * returns that subject.
+ */
+final class MemoizingValidationSpec<SUBJECT> implements CachedValidationSpec<SUBJECT> {
+
+    private final ValidationSpec<SUBJECT> delegate;
+    private final CacheConfig config;
+    private final ConcurrentHashMap<Object, Entry> entries;
+    private final Entry[] ring;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    // guarded by ring
+    private int used;
+    private int hand;
+
+    MemoizingValidationSpec(ValidationSpec<SUBJECT> delegate, CacheConfig config) {
+        this.delegate = delegate;
+        this.config = config;
+        this.entries = new ConcurrentHashMap<>(Math.min(config.maximumSize(), 1 << 16));
+        this.ring = new Entry[config.maximumSize()];
+    }
+
+    @Override
+    public Valid<SUBJECT> validate(SUBJECT t) {
+        var violations = verdict(t);
+        return violations.isEmpty() ? Valid.valid(t) : Valid.invalid(violations);
+    }
+
+    @Override
+    public boolean test(SUBJECT t) {
+        return verdict(t).isEmpty();
+    }
+
+    @Override
+    public Valid<SUBJECT> validateFirst(SUBJECT t) {
+        var violations = verdict(t);
+        return violations.isEmpty() ? Valid.valid(t) : Valid.invalid(Violations.of(violations.list().get(0)));
+    }
+
+    private Violations verdict(SUBJECT t) {
+        Objects.requireNonNull(t, "nulls are not supported");
+        var key = config.identityKeys() ? new IdentityKey(t) : t;
+        var entry = entries.get(key);
+        if (entry != null) {
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            hits.increment();
+            return entry.violations;
+        }
+        misses.increment();
+        var violations = delegate.validate(t).violations();
+        insert(new Entry(key, violations));
+        return violations;
+    }
+
+    private void insert(Entry entry) {
+        synchronized (ring) {
+            if (entries.containsKey(entry.key)) {
+                return;
+            }
+            if (used < ring.length) {
+                ring[used++] = entry;
+            } else {
+                var victim = ring[hand];
+                while (victim.referenced) {
+                    victim.referenced = false;
+                    hand = (hand + 1) % ring.length;
+                    victim = ring[hand];
+                }
+                entries.remove(victim.key, victim);
+                evictions.increment();
+                ring[hand] = entry;
+                hand = (hand + 1) % ring.length;
+            }
+            entries.put(entry.key, entry);
+        }
+    }
+
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (ring) {
+            entries.clear();
+            Arrays.fill(ring, null);
+            used = 0;
+            hand = 0;
+        }
+    }
+
+    @Override
+    public Function<SUBJECT, Valid<SUBJECT>> toFunction() {
+        return this::validate;
+    }
+
+    @Override
+    public UnaryOperator<SUBJECT> toFailingValidationOperator(Function<Violations, ? extends Throwable> onException) {
+        Objects.requireNonNull(onException, "nulls are not supported");
+        return t -> validate(t).orElseThrow(onException);
+    }
+
+    @Override
+    public UnaryOperator<SUBJECT> toThrowingOperator(Supplier<? extends Throwable> onException) {
+        Objects.requireNonNull(onException, "nulls are not supported");
+        return t -> validate(t).orElseThrow(onException);
+    }
+
+    @Override
+    public ValidationSpec<SUBJECT> compile() {
+        return new MemoizingValidationSpec<>(delegate.compile(), config);
+    }
+
+    @Override
+    public ValidationSpec<SUBJECT> named(String name) {
+        return new MemoizingValidationSpec<>(delegate.named(name), config);
+    }
+
+    @Override
+    public ValidationSpec<SUBJECT> withMetrics(String name, ValidationMetrics metrics) {
+        return new MemoizingValidationSpec<>(delegate.withMetrics(name, metrics), config);
+    }
+
+    @Override
+    public CachedValidationSpec<SUBJECT> cached(CacheConfig config) {
+        Objects.requireNonNull(config, "nulls are not supported");
+        return new MemoizingValidationSpec<>(delegate, config);
+    }
+
+    @Override
+    public String describePlan() {
+        return "cached, " + stats() + System.lineSeparator() + delegate.describePlan();
+    }
+
+    private static final class Entry {
+
+        final Object key;
+        final Violations violations;
+        // set on every hit, cleared by the CLOCK hand; racy updates only make eviction slightly less precise
+        volatile boolean referenced;
+
+        Entry(Object key, Violations violations) {
+            this.key = key;
+            this.violations = violations;
+        }
+    }
+
+    private static final class IdentityKey {
+
+        private final Object subject;
+
+        IdentityKey(Object subject) {
+            this.subject = subject;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object other) {
+            return other instanceof IdentityKey && ((IdentityKey) other).subject == subject;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(subject);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.varlanv.konstraints;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+
+/**
+ * Reports to {@link ValidationMetrics} around a spec that knows nothing about metrics, such as a generated one. Only
+ * whole validations are timed; the rules of the delegate are opaque, so nothing is reported to
+ * {@link ValidationMetrics#ruleSampled}.
+ */
+final class MeteredValidationSpec<SUBJECT> implements ValidationSpec<SUBJECT> {
+
+    private final ValidationSpec<SUBJECT> delegate;
+    private final String name;
+    private final ValidationMetrics metrics;
+
+    MeteredValidationSpec(ValidationSpec<SUBJECT> delegate, String name, ValidationMetrics metrics) {
+        this.delegate = delegate;
+        this.name = name;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Valid<SUBJECT> validate(SUBJECT t) {
+        var start = System.nanoTime();
+        var valid = delegate.validate(t);
+        validated(System.nanoTime() - start, valid);
+        return valid;
+    }
+
+    @Override
+    public Valid<SUBJECT> validateFirst(SUBJECT t) {
+        var start = System.nanoTime();
+        var valid = delegate.validateFirst(t);
+        validated(System.nanoTime() - start, valid);
+        return valid;
+    }
+
+    @Override
+    public boolean test(SUBJECT t) {
+        var start = System.nanoTime();
+        var valid = delegate.test(t);
+        metrics.validated(name, System.nanoTime() - start, valid);
+        return valid;
+    }
+
+    private void validated(long nanos, Valid<SUBJECT> valid) {
+        metrics.validated(name, nanos, valid.isValid());
+        if (valid.isNotValid()) {
+            for (var violation : valid.violations().list()) {
+                metrics.rejected(name, violation);
+            }
+        }
+    }
+
+    @Override
+    public ValidBatch<SUBJECT> validateBatch(List<SUBJECT> subjects) {
+        return delegate.validateBatch(subjects);
+    }
+
+    @Override
+    public ValidBatch<SUBJECT> validateParallel(List<SUBJECT> subjects, ForkJoinPool pool) {
+        return delegate.validateParallel(subjects, pool);
+    }
+
+    @Override
+    public CompletableFuture<Valid<SUBJECT>> validateAsync(SUBJECT t, Executor executor) {
+        return delegate.validateAsync(t, executor);
+    }
+
+    @Override
+    public Collector<SUBJECT, ?, ValidBatch<SUBJECT>> collector() {
+        return delegate.collector();
+    }
+
+    @Override
+    public Function<SUBJECT, Valid<SUBJECT>> toFunction() {
+        return this::validate;
+    }
+
+    @Override
+    public UnaryOperator<SUBJECT> toFailingValidationOperator(Function<Violations, ? extends Throwable> onException) {
+        Objects.requireNonNull(onException, "nulls are not supported");
+        return t -> validate(t).orElseThrow(onException);
+    }
+
+    @Override
+    public UnaryOperator<SUBJECT> toThrowingOperator(Supplier<? extends Throwable> onException) {
+        Objects.requireNonNull(onException, "nulls are not supported");
+        return t -> validate(t).orElseThrow(onException);
+    }
+
+    @Override
+    public ValidationSpec<SUBJECT> compile() {
+        return new MeteredValidationSpec<>(delegate.compile(), name, metrics);
+    }
+
+    @Override
+    public ValidationSpec<SUBJECT> withMetrics(String name, ValidationMetrics metrics) {
+        return delegate.withMetrics(name, metrics);
+    }
+
+    @Override
+    public String describePlan() {
+        return delegate.describePlan();
+    }
+}
@@ -22,6 +22,12 @@ final class MutableTrustedViolations implements Violations {
         return this;
     }
 
+    @Override
+    public Violations merge(Violations other) {
+        this.violations.addAll(other.list());
+        return this;
+    }
+
     @Override
     public boolean isEmpty() {
         return violations.isEmpty();
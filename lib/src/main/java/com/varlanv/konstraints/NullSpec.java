@@ -1,5 +1,8 @@
 package com.varlanv.konstraints;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -20,35 +23,83 @@ public final class NullSpec<SUBJECT> {
         Function<@NonNull SUBJECT, @Nullable TARGET> mapper,
         UnaryOperator<@NonNull StringAssertions<TARGET, SUBJECT>> action) {
         var stringAssertions = action.apply(new StringAssertions<>(this, Rules.empty()));
-        if (stringAssertions.rules.list() == Rules.empty()) {
-            return parent.parent;
-        }
-        return parent.parent.withRule(((subject, violations) -> {
-            TARGET target = mapper.apply(subject);
-            if (target == null) {
-                return violations.add(Violation.of(parent.fieldName, "is null"));
-            } else {
-                var result = violations;
-                for (Rule<TARGET> targetRule : stringAssertions.rules.list()) {
-                    for (var violation : targetRule.apply(target, violations).list()) {
-                        result = result.add(violation);
-                    }
-                }
-                return result;
-            }
-        }));
+        return withTargetRules(mapper, stringAssertions.fusedRules());
+    }
+
+    public AssertionsSpec<SUBJECT> string(UnaryOperator<@NonNull StringAssertions<CharSequence, SUBJECT>> action) {
+        return string(parent.component().function(CharSequence.class), action);
     }
 
     public <TARGET extends Number & Comparable<TARGET>> AssertionsSpec<SUBJECT> number(
         Function<@NonNull SUBJECT, @Nullable TARGET> extract,
         Function<@NonNull RootNumberAssertions<TARGET, SUBJECT>, @NonNull RootNumberAssertions<TARGET, SUBJECT>>
             action) {
-        return null;
+        var numberAssertions = action.apply(new RootNumberAssertions<TARGET, SUBJECT>(this, Rules.empty()));
+        return withTargetRules(extract, numberAssertions.rules());
+    }
+
+    public AssertionsSpec<SUBJECT> decimal(
+        Function<@NonNull SUBJECT, @Nullable BigDecimal> extract,
+        UnaryOperator<@NonNull DecimalAssertions<SUBJECT>> action) {
+        var decimalAssertions = action.apply(new DecimalAssertions<>(this, Rules.empty()));
+        return withTargetRules(extract, decimalAssertions.rules);
+    }
+
+    public AssertionsSpec<SUBJECT> decimal(UnaryOperator<@NonNull DecimalAssertions<SUBJECT>> action) {
+        return decimal(parent.component().function(BigDecimal.class), action);
+    }
+
+    public AssertionsSpec<SUBJECT> bigInteger(
+        Function<@NonNull SUBJECT, @Nullable BigInteger> extract,
+        UnaryOperator<@NonNull BigIntegerAssertions<SUBJECT>> action) {
+        var bigIntegerAssertions = action.apply(new BigIntegerAssertions<>(this, Rules.empty()));
+        return withTargetRules(extract, bigIntegerAssertions.rules);
+    }
+
+    public AssertionsSpec<SUBJECT> bigInteger(UnaryOperator<@NonNull BigIntegerAssertions<SUBJECT>> action) {
+        return bigInteger(parent.component().function(BigInteger.class), action);
+    }
+
+    public <ITEM> AssertionsSpec<SUBJECT> items(
+        Function<@NonNull SUBJECT, @Nullable Collection<ITEM>> extract,
+        UnaryOperator<@NonNull ItemsAssertions<ITEM, SUBJECT>> action) {
+        var itemsAssertions = action.apply(new ItemsAssertions<>(this, Rules.empty()));
+        return withTargetRules(extract, itemsAssertions.rules);
+    }
+
+    /**
+     * Same as {@link #items(Function, UnaryOperator)} for a record component. Elements are expected to be of
+     * {@code itemType}, so {@link ItemsAssertions#eachItem} may declare record components of elements as well.
+     */
+    public <ITEM> AssertionsSpec<SUBJECT> items(
+        Class<ITEM> itemType, UnaryOperator<@NonNull ItemsAssertions<ITEM, SUBJECT>> action) {
+        var itemsAssertions = action.apply(new ItemsAssertions<>(this, Rules.empty(), itemType));
+        Function<@NonNull SUBJECT, @Nullable Collection<ITEM>> extract = parent.component().function(Collection.class);
+        return withTargetRules(extract, itemsAssertions.rules);
     }
 
     public <TARGET> AssertionsSpec<SUBJECT> nested(
         Function<@NonNull SUBJECT, @Nullable TARGET> extract, AssertionsOperator<TARGET> action) {
-        AssertionsSpec<TARGET> apply = action.apply(new AssertionsSpec<>(Rules.empty()));
-        return null;
+        var nestedSpec = action.apply(new AssertionsSpec<>(Rules.empty(), parent.fieldName));
+        return withTargetRules(extract, nestedSpec.rules());
+    }
+
+    /**
+     * Same as {@link #nested(Function, AssertionsOperator)} for a record component of type {@code type}. When
+     * {@code type} is a record, the nested spec may declare its fields with {@link AssertionsSpec#component(String)}.
+     */
+    public <TARGET> AssertionsSpec<SUBJECT> nested(Class<TARGET> type, AssertionsOperator<TARGET> action) {
+        var nestedSpec = action.apply(new AssertionsSpec<>(Rules.empty(), parent.fieldName, type));
+        Function<@NonNull SUBJECT, @Nullable TARGET> extract = parent.component().function(type);
+        return withTargetRules(extract, nestedSpec.rules());
+    }
+
+    private <TARGET> AssertionsSpec<SUBJECT> withTargetRules(
+        Function<@NonNull SUBJECT, @Nullable TARGET> mapper, Rules<TARGET> targetRules) {
+        if (targetRules.isEmpty() && nullable) {
+            return parent.parent;
+        }
+        return parent.parent.withRule(
+            PathStack.scoped(FieldRule.of(parent.fieldName, mapper, nullable, targetRules), targetRules));
     }
 }
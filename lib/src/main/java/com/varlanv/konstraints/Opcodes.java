@@ -0,0 +1,49 @@
+package com.varlanv.konstraints;
+
+/**
+ * JVM opcodes used by {@link BytecodeGenerator}.
+ */
+final class Opcodes {
+
+    static final int ICONST_0 = 0x03;
+    static final int LCONST_0 = 0x09;
+    static final int BIPUSH = 0x10;
+    static final int SIPUSH = 0x11;
+    static final int LDC_W = 0x13;
+    static final int LDC2_W = 0x14;
+    static final int ILOAD = 0x15;
+    static final int LLOAD = 0x16;
+    static final int DLOAD = 0x18;
+    static final int ALOAD = 0x19;
+    static final int ISTORE = 0x36;
+    static final int LSTORE = 0x37;
+    static final int DSTORE = 0x39;
+    static final int ASTORE = 0x3A;
+    static final int AALOAD = 0x32;
+    static final int IAND = 0x7E;
+    static final int LCMP = 0x94;
+    static final int DCMPL = 0x97;
+    static final int DCMPG = 0x98;
+    static final int IFEQ = 0x99;
+    static final int IFNE = 0x9A;
+    static final int IFLT = 0x9B;
+    static final int IFGT = 0x9D;
+    static final int IF_ICMPLT = 0xA1;
+    static final int IF_ICMPGT = 0xA3;
+    static final int GOTO = 0xA7;
+    static final int IRETURN = 0xAC;
+    static final int ARETURN = 0xB0;
+    static final int RETURN = 0xB1;
+    static final int GETFIELD = 0xB4;
+    static final int PUTFIELD = 0xB5;
+    static final int INVOKEVIRTUAL = 0xB6;
+    static final int INVOKESPECIAL = 0xB7;
+    static final int INVOKESTATIC = 0xB8;
+    static final int INVOKEINTERFACE = 0xB9;
+    static final int CHECKCAST = 0xC0;
+    static final int WIDE = 0xC4;
+    static final int IFNULL = 0xC6;
+    static final int IFNONNULL = 0xC7;
+
+    private Opcodes() {}
+}
@@ -0,0 +1,194 @@
+package com.varlanv.konstraints;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Ancestors of the value being validated, kept per thread in flat arrays that are reused across validations. Every
+ * level holds an ancestor object and the index of the list element being validated under it, or {@code -1}.
+ *
+ * <p>Only specs with a parent-aware check touch the stack: the field rules leading to such a check are wrapped in a
+ * {@link Scope} that pushes the subject, and list rules record element indices. Other specs never see it. {@link Child}
+ * views are created only when a check asks for one, and read the stack lazily, so they are valid only while the
+ * check runs.
+ */
+final class PathStack {
+
+    private static final ThreadLocal<PathStack> CURRENT = ThreadLocal.withInitial(PathStack::new);
+
+    private Object[] parents = new Object[8];
+    private int[] indices = new int[8];
+    private int depth;
+
+    private PathStack() {}
+
+    static PathStack current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Whether any of the rules needs ancestors on the stack.
+     */
+    static boolean needsParents(Rules<?> rules) {
+        for (var rule : rules.list()) {
+            if (rule instanceof ParentCheck
+                    || rule instanceof Scope
+                    || rule instanceof EachItemRule && ((EachItemRule<?>) rule).needsParents) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code rule} wrapped so that it pushes its subject when {@code targetRules} need ancestors.
+     */
+    static <SUBJECT> Rule<SUBJECT> scoped(Rule<SUBJECT> rule, Rules<?> targetRules) {
+        return needsParents(targetRules) ? new Scope<>(rule) : rule;
+    }
+
+    void push(Object parent) {
+        if (depth == parents.length) {
+            parents = Arrays.copyOf(parents, depth * 2);
+            indices = Arrays.copyOf(indices, depth * 2);
+        }
+        parents[depth] = parent;
+        indices[depth] = -1;
+        depth++;
+    }
+
+    void pop() {
+        parents[--depth] = null;
+    }
+
+    /**
+     * Records the index of the list element about to be validated under the top ancestor.
+     */
+    void index(int index) {
+        if (depth > 0) {
+            indices[depth - 1] = index;
+        }
+    }
+
+    <SELF> IndexedChild<SELF, Object> child(SELF value) {
+        return new View<>(this, value, depth);
+    }
+
+    private static final class View<SELF> implements IndexedChild<SELF, Object> {
+
+        private final PathStack stack;
+        private final SELF value;
+        // number of ancestors of value
+        private final int level;
+        private final int index;
+
+        View(PathStack stack, SELF value, int level) {
+            this.stack = stack;
+            this.value = value;
+            this.level = level;
+            this.index = level == 0 ? -1 : stack.indices[level - 1];
+        }
+
+        @Override
+        public SELF value() {
+            return value;
+        }
+
+        /**
+         * Returns the parent object itself for the root, or a view of the parent with its own parent otherwise.
+         */
+        @Override
+        public Object parent() {
+            if (level == 0) {
+                throw new IllegalStateException("root subject has no parent");
+            }
+            var parent = stack.parents[level - 1];
+            return level == 1 ? parent : new View<>(stack, parent, level - 1);
+        }
+
+        @Override
+        public int index() {
+            return index;
+        }
+    }
+
+    /**
+     * Field rule that keeps its subject on the stack while nested rules run.
+     */
+    static final class Scope<SUBJECT> implements Rule<SUBJECT> {
+
+        private final Rule<SUBJECT> rule;
+
+        Scope(Rule<SUBJECT> rule) {
+            this.rule = rule;
+        }
+
+        @Override
+        public Violations apply(SUBJECT subject, Violations violations) {
+            var stack = current();
+            stack.push(subject);
+            try {
+                return rule.apply(subject, violations);
+            } finally {
+                stack.pop();
+            }
+        }
+
+        @Override
+        public Violations applyFirst(SUBJECT subject, Violations violations) {
+            var stack = current();
+            stack.push(subject);
+            try {
+                return rule.applyFirst(subject, violations);
+            } finally {
+                stack.pop();
+            }
+        }
+
+        @Override
+        public boolean test(SUBJECT subject) {
+            var stack = current();
+            stack.push(subject);
+            try {
+                return rule.test(subject);
+            } finally {
+                stack.pop();
+            }
+        }
+
+        @Override
+        public String describe() {
+            return rule.describe();
+        }
+
+        @Override
+        public @Nullable String fieldPath() {
+            return rule.fieldPath();
+        }
+    }
+
+    /**
+     * Check that receives a view of its subject with the ancestors on the stack.
+     */
+    static final class ParentCheck<SUBJECT> implements Rule<SUBJECT> {
+
+        private final Predicate<IndexedChild<SUBJECT, ?>> predicate;
+        private final Violation violation;
+
+        ParentCheck(Predicate<IndexedChild<SUBJECT, ?>> predicate, Violation violation) {
+            this.predicate = predicate;
+            this.violation = violation;
+        }
+
+        @Override
+        public Violations apply(SUBJECT subject, Violations violations) {
+            return test(subject) ? violations : violations.add(violation);
+        }
+
+        @Override
+        public boolean test(SUBJECT subject) {
+            return predicate.test(current().child(subject));
+        }
+    }
+}
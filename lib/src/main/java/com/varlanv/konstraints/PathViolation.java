@@ -0,0 +1,122 @@
+package com.varlanv.konstraints;
+
+import java.util.Arrays;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Violation of a list element, stored as the path template of the rule that reported it plus the element indices
+ * that fill its {@code []} placeholders from left to right. The template is the field string of the spec's own
+ * violation, so it lives exactly as long as the spec does. The dotted path is rendered only when {@link #field()}
+ * is called, so callers that only count or group violations never build it.
+ *
+ * <p>Indices are filled by the enclosing collection rules, innermost first, while the violation is still owned by
+ * the validation that created it; once returned to the caller it no longer changes.
+ */
+final class PathViolation implements Violation {
+
+    private final String template;
+    // -1 for placeholders not filled yet
+    private final int[] indices;
+    private final String message;
+    private @Nullable String field;
+
+    private PathViolation(String template, int[] indices, String message) {
+        this.template = template;
+        this.indices = indices;
+        this.message = message;
+    }
+
+    /**
+     * Returns {@code violation} with placeholder number {@code slot} set to {@code index}, or {@code violation} as is
+     * when its path has no such placeholder.
+     */
+    static Violation withIndex(Violation violation, int slot, int index) {
+        if (violation instanceof PathViolation) {
+            var pathViolation = (PathViolation) violation;
+            if (slot < pathViolation.indices.length) {
+                pathViolation.indices[slot] = index;
+                pathViolation.field = null;
+            }
+            return pathViolation;
+        }
+        var field = violation.field();
+        var placeholders = placeholders(field);
+        if (slot >= placeholders) {
+            return violation;
+        }
+        var indices = new int[placeholders];
+        Arrays.fill(indices, -1);
+        indices[slot] = index;
+        return new PathViolation(field, indices, violation.message());
+    }
+
+    /**
+     * Number of {@code []} placeholders in {@code template}.
+     */
+    static int placeholders(String template) {
+        var count = 0;
+        for (var idx = template.indexOf("[]"); idx >= 0; idx = template.indexOf("[]", idx + 2)) {
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public String field() {
+        var field = this.field;
+        if (field == null) {
+            field = render();
+            this.field = field;
+        }
+        return field;
+    }
+
+    private String render() {
+        var template = this.template;
+        var builder = new StringBuilder(template.length() + indices.length * 4);
+        var from = 0;
+        for (var index : indices) {
+            var placeholder = template.indexOf("[]", from);
+            builder.append(template, from, placeholder + 1);
+            if (index >= 0) {
+                builder.append(index);
+            }
+            from = placeholder + 1;
+        }
+        return builder.append(template, from, template.length()).toString();
+    }
+
+    @Override
+    public String message() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof PathViolation) {
+            var that = (PathViolation) obj;
+            return template.equals(that.template)
+                    && Arrays.equals(indices, that.indices)
+                    && message.equals(that.message);
+        }
+        if (!(obj instanceof Violation)) {
+            return false;
+        }
+        var that = (Violation) obj;
+        return field().equals(that.field()) && message.equals(that.message());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field(), message);
+    }
+
+    @Override
+    public String toString() {
+        return "Violation[" + "field='" + field() + '\'' + ", message='" + message + '\'' + ']';
+    }
+}
@@ -0,0 +1,39 @@
+package com.varlanv.konstraints;
+
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Whole-input matcher behind {@link StringAssertions#matches(Pattern)}. Uses a {@link RegexDfa} when the pattern fits
+ * the supported subset and {@link Pattern} otherwise, or for input the automaton cannot handle. Either way the answer
+ * is the one {@code pattern.matcher(input).matches()} gives, and input is never copied into a {@link String}.
+ */
+final class PatternMatcher {
+
+    final Pattern pattern;
+    private final @Nullable RegexDfa dfa;
+
+    private PatternMatcher(Pattern pattern, @Nullable RegexDfa dfa) {
+        this.pattern = pattern;
+        this.dfa = dfa;
+    }
+
+    static PatternMatcher of(Pattern pattern) {
+        return new PatternMatcher(pattern, RegexDfa.compile(pattern));
+    }
+
+    boolean matches(CharSequence input) {
+        var automaton = dfa;
+        if (automaton != null) {
+            var result = automaton.match(input);
+            if (result != RegexDfa.UNSUPPORTED_INPUT) {
+                return result == RegexDfa.MATCH;
+            }
+        }
+        return pattern.matcher(input).matches();
+    }
+
+    boolean isAutomaton() {
+        return dfa != null;
+    }
+}
@@ -0,0 +1,93 @@
+package com.varlanv.konstraints;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Mutable accumulator for {@link ValidationSpec#validateAsync(Object, Executor)}. Plain violations and started async
+ * checks are recorded as slots in rule order, and {@link #completion()} resolves the slots in that same order once
+ * every check has finished. Used by a single validation only and never handed out to callers.
+ */
+final class PendingViolations implements Violations {
+
+    private final Executor executor;
+    private final List<Object> slots = new ArrayList<>();
+    private final List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+
+    PendingViolations(Executor executor) {
+        this.executor = executor;
+    }
+
+    Violations addAsync(Supplier<Boolean> check, Violation violation) {
+        var future = CompletableFuture.supplyAsync(check, executor);
+        futures.add(future);
+        slots.add(new AsyncSlot(future, violation));
+        return this;
+    }
+
+    CompletableFuture<Violations> completion() {
+        if (futures.isEmpty()) {
+            return CompletableFuture.completedFuture(resolve());
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> resolve());
+    }
+
+    private Violations resolve() {
+        var result = new ArrayList<Violation>(slots.size());
+        for (var slot : slots) {
+            if (slot instanceof AsyncSlot) {
+                var asyncSlot = (AsyncSlot) slot;
+                if (!asyncSlot.future.join()) {
+                    result.add(asyncSlot.violation);
+                }
+            } else {
+                result.add((Violation) slot);
+            }
+        }
+        return ImmutableTrustedViolations.of(result);
+    }
+
+    @Override
+    public List<Violation> list() {
+        if (!futures.isEmpty()) {
+            throw new IllegalStateException("Violations are pending until all async checks complete");
+        }
+        var result = new ArrayList<Violation>(slots.size());
+        for (var slot : slots) {
+            result.add((Violation) slot);
+        }
+        return result;
+    }
+
+    @Override
+    public Violations add(Violation violation) {
+        slots.add(violation);
+        return this;
+    }
+
+    @Override
+    public Violations merge(Violations other) {
+        slots.addAll(other.list());
+        return this;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return slots.isEmpty();
+    }
+
+    private static final class AsyncSlot {
+
+        final CompletableFuture<Boolean> future;
+        final Violation violation;
+
+        AsyncSlot(CompletableFuture<Boolean> future, Violation violation) {
+            this.future = future;
+            this.violation = violation;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.varlanv.konstraints;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Components of a record class, discovered once per class and cached in a {@link ClassValue}. Each accessor is bound
+ * to a {@link MethodHandle}; extractors are spun from it with {@link LambdaMetafactory}, which gives the same code as a
+ * {@code Record::component} method reference and costs a direct call once inlined. Accessors the library cannot link
+ * to directly, such as those of records in packages it cannot read, are called through the handle instead.
+ *
+ * <p>The library targets Java 11, so {@code Class.getRecordComponents()} is looked up reflectively.
+ */
+final class RecordComponents {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final @Nullable Method GET_RECORD_COMPONENTS = method(Class.class, "getRecordComponents");
+    private static final ClassValue<RecordComponents> CACHE = new ClassValue<>() {
+
+        @Override
+        protected RecordComponents computeValue(Class<?> type) {
+            return new RecordComponents(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Map<String, Component> components;
+
+    private RecordComponents(Class<?> type) {
+        this.type = type;
+        this.components = discover(type);
+    }
+
+    static RecordComponents of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    Component component(String name) {
+        var component = components.get(name);
+        if (component == null) {
+            throw new IllegalArgumentException(
+                    "Record [" + type.getName() + "] has no component [" + name + "], components are "
+                            + components.keySet());
+        }
+        return component;
+    }
+
+    private static Map<String, Component> discover(Class<?> type) {
+        var getRecordComponents = GET_RECORD_COMPONENTS;
+        Object[] recordComponents;
+        try {
+            recordComponents = getRecordComponents == null ? null : (Object[]) getRecordComponents.invoke(type);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to read components of [" + type.getName() + "]", e);
+        }
+        if (recordComponents == null) {
+            throw new IllegalArgumentException("[" + type.getName() + "] is not a record");
+        }
+        var components = new LinkedHashMap<String, Component>();
+        for (var recordComponent : recordComponents) {
+            try {
+                var componentClass = recordComponent.getClass();
+                var name = (String) componentClass.getMethod("getName").invoke(recordComponent);
+                var accessor = (Method) componentClass.getMethod("getAccessor").invoke(recordComponent);
+                components.put(name, new Component(type, name, accessor));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to read components of [" + type.getName() + "]", e);
+            }
+        }
+        return components;
+    }
+
+    private static @Nullable Method method(Class<?> owner, String name) {
+        try {
+            return owner.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    static final class Component {
+
+        final String name;
+        final Class<?> type;
+        private final Class<?> recordType;
+        private final MethodHandle accessor;
+        // false when classes spun by the library could not link to the accessor
+        private final boolean direct;
+        private volatile @Nullable Function<Object, Object> function;
+        private volatile @Nullable ToLongFunction<Object> toLong;
+        private volatile @Nullable ToDoubleFunction<Object> toDouble;
+
+        private Component(Class<?> recordType, String name, Method accessor) {
+            this.recordType = recordType;
+            this.name = name;
+            this.type = accessor.getReturnType();
+            MethodHandle handle;
+            boolean direct;
+            try {
+                handle = LOOKUP.unreflect(accessor);
+                direct = visible(recordType);
+            } catch (IllegalAccessException e) {
+                try {
+                    handle = MethodHandles.privateLookupIn(recordType, LOOKUP).unreflect(accessor);
+                    direct = false;
+                } catch (IllegalAccessException | RuntimeException inaccessible) {
+                    throw new IllegalArgumentException(
+                            "Component [" + name + "] of [" + recordType.getName() + "] is not accessible",
+                            inaccessible);
+                }
+            }
+            this.accessor = handle;
+            this.direct = direct;
+        }
+
+        /**
+         * Extractor of the component value, boxed if the component is primitive.
+         */
+        @SuppressWarnings("unchecked")
+        <SUBJECT, TARGET> Function<SUBJECT, TARGET> function(Class<?> expected) {
+            require(expected.isAssignableFrom(type) || expected.isAssignableFrom(wrapper(type)), expected);
+            var function = this.function;
+            if (function == null) {
+                function = bind(Function.class, "apply", Object.class, type.isPrimitive() ? wrapper(type) : type);
+                this.function = function;
+            }
+            return (Function<SUBJECT, TARGET>) (Function<?, ?>) function;
+        }
+
+        /**
+         * Extractor of an integral component, widened to {@code long}.
+         */
+        @SuppressWarnings("unchecked")
+        <SUBJECT> ToLongFunction<SUBJECT> toLong(Class<?> expected) {
+            require(type == long.class && expected == long.class
+                    || type == int.class
+                    || type == short.class
+                    || type == byte.class
+                    || type == char.class, expected);
+            var toLong = this.toLong;
+            if (toLong == null) {
+                toLong = bind(ToLongFunction.class, "applyAsLong", long.class, long.class);
+                this.toLong = toLong;
+            }
+            return (ToLongFunction<SUBJECT>) (ToLongFunction<?>) toLong;
+        }
+
+        /**
+         * Extractor of a numeric primitive component, widened to {@code double}.
+         */
+        @SuppressWarnings("unchecked")
+        <SUBJECT> ToDoubleFunction<SUBJECT> toDouble() {
+            require(type.isPrimitive() && type != boolean.class && type != void.class, double.class);
+            var toDouble = this.toDouble;
+            if (toDouble == null) {
+                toDouble = bind(ToDoubleFunction.class, "applyAsDouble", double.class, double.class);
+                this.toDouble = toDouble;
+            }
+            return (ToDoubleFunction<SUBJECT>) (ToDoubleFunction<?>) toDouble;
+        }
+
+        private <F> F bind(Class<F> samType, String samName, Class<?> samReturn, Class<?> instantiatedReturn) {
+            if (direct) {
+                try {
+                    var site = LambdaMetafactory.metafactory(
+                            LOOKUP,
+                            samName,
+                            MethodType.methodType(samType),
+                            MethodType.methodType(samReturn, Object.class),
+                            accessor,
+                            MethodType.methodType(instantiatedReturn, recordType));
+                    return samType.cast(site.getTarget().invoke());
+                } catch (Throwable e) {
+                    // the handle below always works, only slower
+                }
+            }
+            return samType.cast(new HandleExtractor(accessor.asType(MethodType.methodType(samReturn, Object.class))));
+        }
+
+        private void require(boolean supported, Class<?> expected) {
+            if (!supported) {
+                throw new IllegalArgumentException("Component [" + name + "] of [" + recordType.getName() + "] is ["
+                        + type.getName() + "], not [" + expected.getName() + "]");
+            }
+        }
+
+        private static boolean visible(Class<?> type) {
+            try {
+                return Class.forName(type.getName(), false, RecordComponents.class.getClassLoader()) == type;
+            } catch (ClassNotFoundException | LinkageError e) {
+                return false;
+            }
+        }
+
+        private static Class<?> wrapper(Class<?> type) {
+            return MethodType.methodType(type).wrap().returnType();
+        }
+    }
+
+    /**
+     * Calls the accessor through its handle, adapted to the signature of the implemented interface.
+     */
+    private static final class HandleExtractor
+            implements Function<Object, Object>, ToLongFunction<Object>, ToDoubleFunction<Object> {
+
+        private final MethodHandle handle;
+
+        HandleExtractor(MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public Object apply(Object subject) {
+            try {
+                return (Object) handle.invokeExact(subject);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public long applyAsLong(Object subject) {
+            try {
+                return (long) handle.invokeExact(subject);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public double applyAsDouble(Object subject) {
+            try {
+                return (double) handle.invokeExact(subject);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
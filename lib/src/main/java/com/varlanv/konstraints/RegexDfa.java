@@ -0,0 +1,742 @@
+package com.varlanv.konstraints;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Deterministic automaton for a subset of {@link Pattern} syntax: literals, {@code .}, character classes with ranges
+ * and negation, {@code \d \w \s} and their negations, groups, alternation, greedy and lazy quantifiers, and
+ * {@code ^}/{@code $} at the very ends of the pattern. Everything else (flags, backreferences, lookaround, possessive
+ * quantifiers, word boundaries, property classes, nested classes) makes {@link #compile(Pattern)} return
+ * {@code null}, and the caller keeps using {@link Pattern}.
+ *
+ * <p>{@link #match(CharSequence)} answers the same question as {@code pattern.matcher(input).matches()} in one pass
+ * over the input, without allocating and without backtracking. Input is matched char by char, so input containing
+ * surrogates is reported as {@link #UNSUPPORTED_INPUT} and must be matched by {@link Pattern}, which works on code
+ * points.
+ *
+ * <p>Before the automaton runs, the input length is checked against the bounds of the pattern and the input is
+ * checked to start with the literal prefix of the pattern, if it has one.
+ */
+final class RegexDfa {
+
+    static final int NO_MATCH = 0;
+    static final int MATCH = 1;
+    static final int UNSUPPORTED_INPUT = -1;
+
+    private static final int MAX_NFA_STATES = 10_000;
+    private static final int MAX_DFA_STATES = 2_000;
+    private static final int DEAD = 0;
+    private static final int CHAR_LIMIT = 0x10000;
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private final int[] asciiClasses;
+    private final int[] classStarts;
+    private final int classCount;
+    private final int[] transitions;
+    private final boolean[] accepting;
+    private final int start;
+    private final int minLength;
+    private final int maxLength;
+    private final String prefix;
+
+    private RegexDfa(
+            int[] classStarts,
+            int[] transitions,
+            boolean[] accepting,
+            int start,
+            int minLength,
+            int maxLength,
+            String prefix) {
+        this.classStarts = classStarts;
+        this.classCount = classStarts.length;
+        this.transitions = transitions;
+        this.accepting = accepting;
+        this.start = start;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.prefix = prefix;
+        this.asciiClasses = new int[128];
+        for (var c = 0; c < 128; c++) {
+            asciiClasses[c] = searchClass(c);
+        }
+    }
+
+    static @Nullable RegexDfa compile(Pattern pattern) {
+        var regex = pattern.pattern();
+        if (pattern.flags() != 0) {
+            return null;
+        }
+        for (var idx = 0; idx < regex.length(); idx++) {
+            if (Character.isSurrogate(regex.charAt(idx))) {
+                return null;
+            }
+        }
+        try {
+            var node = new Parser(regex).parse();
+            var nfa = new Nfa();
+            var nfaStart = nfa.compile(node, nfa.state(Nfa.MATCH, -1, -1, -1));
+            return nfa.determinize(nfaStart, minLength(node), maxLength(node), prefix(node));
+        } catch (Unsupported e) {
+            return null;
+        }
+    }
+
+    int match(CharSequence input) {
+        var length = input.length();
+        if (length < minLength || length > maxLength) {
+            return NO_MATCH;
+        }
+        var prefix = this.prefix;
+        for (var idx = 0; idx < prefix.length(); idx++) {
+            if (input.charAt(idx) != prefix.charAt(idx)) {
+                return NO_MATCH;
+            }
+        }
+        var transitions = this.transitions;
+        var classCount = this.classCount;
+        var state = start;
+        for (var idx = 0; idx < length; idx++) {
+            var c = input.charAt(idx);
+            if (Character.isSurrogate(c)) {
+                return UNSUPPORTED_INPUT;
+            }
+            state = transitions[state * classCount + (c < 128 ? asciiClasses[c] : searchClass(c))];
+            if (state == DEAD) {
+                return NO_MATCH;
+            }
+        }
+        return accepting[state] ? MATCH : NO_MATCH;
+    }
+
+    private int searchClass(int c) {
+        var starts = classStarts;
+        int lo = 0, hi = starts.length - 1;
+        while (lo < hi) {
+            var mid = (lo + hi + 1) >>> 1;
+            if (starts[mid] <= c) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    private static int minLength(Node node) {
+        return (int) Math.min(UNBOUNDED, lengthBound(node, false));
+    }
+
+    private static int maxLength(Node node) {
+        var max = lengthBound(node, true);
+        return max >= UNBOUNDED ? UNBOUNDED : (int) max;
+    }
+
+    // in chars; a set that may match a supplementary code point counts as two chars for the upper bound
+    private static long lengthBound(Node node, boolean upper) {
+        if (node instanceof CharSet) {
+            return upper && ((CharSet) node).intersects(Character.MIN_SURROGATE, Character.MAX_SURROGATE) ? 2 : 1;
+        } else if (node instanceof Concat) {
+            var total = 0L;
+            for (var item : ((Concat) node).items) {
+                total = Math.min(UNBOUNDED, total + lengthBound(item, upper));
+            }
+            return total;
+        } else if (node instanceof Alt) {
+            var result = upper ? 0L : UNBOUNDED;
+            for (var item : ((Alt) node).items) {
+                var bound = lengthBound(item, upper);
+                result = upper ? Math.max(result, bound) : Math.min(result, bound);
+            }
+            return result;
+        } else {
+            var repeat = (Repeat) node;
+            var bound = lengthBound(repeat.node, upper);
+            var count = upper ? repeat.max : repeat.min;
+            if (bound == 0) {
+                return 0;
+            } else if (count == UNBOUNDED || bound >= UNBOUNDED) {
+                return UNBOUNDED;
+            }
+            return Math.min(UNBOUNDED, bound * count);
+        }
+    }
+
+    private static String prefix(Node node) {
+        var result = new StringBuilder();
+        var items = node instanceof Concat ? ((Concat) node).items : List.of(node);
+        for (var item : items) {
+            if (!(item instanceof CharSet) || !((CharSet) item).isSingleChar()) {
+                break;
+            }
+            result.append((char) ((CharSet) item).ranges[0]);
+        }
+        return result.toString();
+    }
+
+    private static final class Unsupported extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        Unsupported() {
+            super(null, null, false, false);
+        }
+    }
+
+    private abstract static class Node {}
+
+    private static final class CharSet extends Node {
+
+        private static final CharSet DIGIT = new CharSet(new int[] {'0', '9'});
+        private static final CharSet WORD = new CharSet(new int[] {'0', '9', 'A', 'Z', '_', '_', 'a', 'z'});
+        private static final CharSet SPACE = new CharSet(new int[] {'\t', '\r', ' ', ' '});
+        private static final CharSet DOT = new CharSet(new int[] {'\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029})
+                .negate();
+
+        // sorted, non-overlapping, non-adjacent inclusive [lo, hi] pairs
+        final int[] ranges;
+
+        CharSet(int[] ranges) {
+            this.ranges = ranges;
+        }
+
+        static CharSet of(List<int[]> pairs) {
+            pairs.sort((left, right) -> Integer.compare(left[0], right[0]));
+            var merged = new ArrayList<int[]>();
+            for (var pair : pairs) {
+                var last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+                if (last != null && pair[0] <= last[1] + 1) {
+                    last[1] = Math.max(last[1], pair[1]);
+                } else {
+                    merged.add(new int[] {pair[0], pair[1]});
+                }
+            }
+            var ranges = new int[merged.size() * 2];
+            for (var idx = 0; idx < merged.size(); idx++) {
+                ranges[idx * 2] = merged.get(idx)[0];
+                ranges[idx * 2 + 1] = merged.get(idx)[1];
+            }
+            return new CharSet(ranges);
+        }
+
+        static CharSet single(char c) {
+            return new CharSet(new int[] {c, c});
+        }
+
+        CharSet negate() {
+            var result = new ArrayList<int[]>();
+            var next = 0;
+            for (var idx = 0; idx < ranges.length; idx += 2) {
+                if (ranges[idx] > next) {
+                    result.add(new int[] {next, ranges[idx] - 1});
+                }
+                next = ranges[idx + 1] + 1;
+            }
+            if (next < CHAR_LIMIT) {
+                result.add(new int[] {next, CHAR_LIMIT - 1});
+            }
+            return of(result);
+        }
+
+        boolean contains(int c) {
+            for (var idx = 0; idx < ranges.length; idx += 2) {
+                if (c < ranges[idx]) {
+                    return false;
+                } else if (c <= ranges[idx + 1]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean intersects(int lo, int hi) {
+            for (var idx = 0; idx < ranges.length; idx += 2) {
+                if (ranges[idx] <= hi && ranges[idx + 1] >= lo) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean isSingleChar() {
+            return ranges.length == 2 && ranges[0] == ranges[1];
+        }
+    }
+
+    private static final class Concat extends Node {
+
+        final List<Node> items;
+
+        Concat(List<Node> items) {
+            this.items = items;
+        }
+    }
+
+    private static final class Alt extends Node {
+
+        final List<Node> items;
+
+        Alt(List<Node> items) {
+            this.items = items;
+        }
+    }
+
+    private static final class Repeat extends Node {
+
+        final Node node;
+        final int min;
+        final int max;
+
+        Repeat(Node node, int min, int max) {
+            this.node = node;
+            this.min = min;
+            this.max = max;
+        }
+    }
+
+    private static final class Parser {
+
+        private final String regex;
+        private int pos;
+
+        Parser(String regex) {
+            this.regex = regex;
+        }
+
+        Node parse() {
+            var node = alternation();
+            if (pos != regex.length()) {
+                throw new Unsupported();
+            }
+            return node;
+        }
+
+        private Node alternation() {
+            var first = concatenation();
+            if (!peek('|')) {
+                return first;
+            }
+            var items = new ArrayList<Node>();
+            items.add(first);
+            while (peek('|')) {
+                pos++;
+                items.add(concatenation());
+            }
+            return new Alt(items);
+        }
+
+        private Node concatenation() {
+            var items = new ArrayList<Node>();
+            while (pos < regex.length() && !peek('|') && !peek(')')) {
+                var node = repetition();
+                if (node != null) {
+                    items.add(node);
+                }
+            }
+            return items.size() == 1 ? items.get(0) : new Concat(items);
+        }
+
+        private @Nullable Node repetition() {
+            var atom = atom();
+            if (pos >= regex.length()) {
+                return atom;
+            }
+            int min, max;
+            switch (regex.charAt(pos)) {
+                case '*':
+                    min = 0;
+                    max = UNBOUNDED;
+                    pos++;
+                    break;
+                case '+':
+                    min = 1;
+                    max = UNBOUNDED;
+                    pos++;
+                    break;
+                case '?':
+                    min = 0;
+                    max = 1;
+                    pos++;
+                    break;
+                case '{':
+                    pos++;
+                    min = number();
+                    if (peek('}')) {
+                        max = min;
+                    } else {
+                        expect(',');
+                        max = peek('}') ? UNBOUNDED : number();
+                    }
+                    expect('}');
+                    break;
+                default:
+                    return atom;
+            }
+            if (atom == null || max < min) {
+                throw new Unsupported();
+            }
+            if (peek('+')) {
+                // possessive quantifiers give up matches a DFA would find
+                throw new Unsupported();
+            } else if (peek('?')) {
+                pos++;
+            }
+            if (peek('*') || peek('+') || peek('?') || peek('{')) {
+                throw new Unsupported();
+            }
+            return new Repeat(atom, min, max);
+        }
+
+        // returns null for anchors, which are no-ops for a whole-input match
+        private @Nullable Node atom() {
+            var c = regex.charAt(pos++);
+            switch (c) {
+                case '(':
+                    if (peek('?')) {
+                        if (pos + 1 < regex.length() && regex.charAt(pos + 1) == ':') {
+                            pos += 2;
+                        } else {
+                            throw new Unsupported();
+                        }
+                    }
+                    var group = alternation();
+                    expect(')');
+                    return group;
+                case '[':
+                    return charClass();
+                case '.':
+                    return CharSet.DOT;
+                case '^':
+                    if (pos != 1) {
+                        throw new Unsupported();
+                    }
+                    return null;
+                case '$':
+                    if (pos != regex.length()) {
+                        throw new Unsupported();
+                    }
+                    return null;
+                case '\\':
+                    var escaped = escape();
+                    return escaped instanceof CharSet ? (CharSet) escaped : CharSet.single((Character) escaped);
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                case ')':
+                    throw new Unsupported();
+                default:
+                    return CharSet.single(c);
+            }
+        }
+
+        private CharSet charClass() {
+            var negate = peek('^');
+            if (negate) {
+                pos++;
+            }
+            if (peek(']')) {
+                throw new Unsupported();
+            }
+            var pairs = new ArrayList<int[]>();
+            while (!peek(']')) {
+                if (pos >= regex.length() || peek('[') || regex.startsWith("&&", pos)) {
+                    throw new Unsupported();
+                }
+                var from = classAtom();
+                if (from instanceof CharSet) {
+                    var ranges = ((CharSet) from).ranges;
+                    for (var idx = 0; idx < ranges.length; idx += 2) {
+                        pairs.add(new int[] {ranges[idx], ranges[idx + 1]});
+                    }
+                    continue;
+                }
+                var lo = (char) (Character) from;
+                if (peek('-') && pos + 1 < regex.length() && regex.charAt(pos + 1) != ']') {
+                    pos++;
+                    var to = classAtom();
+                    if (!(to instanceof Character) || (Character) to < lo) {
+                        throw new Unsupported();
+                    }
+                    pairs.add(new int[] {lo, (Character) to});
+                } else {
+                    pairs.add(new int[] {lo, lo});
+                }
+            }
+            pos++;
+            var set = CharSet.of(pairs);
+            return negate ? set.negate() : set;
+        }
+
+        private Object classAtom() {
+            var c = regex.charAt(pos++);
+            return c == '\\' ? escape() : (Object) c;
+        }
+
+        // a CharSet for shorthand classes, a Character otherwise
+        private Object escape() {
+            if (pos >= regex.length()) {
+                throw new Unsupported();
+            }
+            var c = regex.charAt(pos++);
+            switch (c) {
+                case 'd':
+                    return CharSet.DIGIT;
+                case 'D':
+                    return CharSet.DIGIT.negate();
+                case 'w':
+                    return CharSet.WORD;
+                case 'W':
+                    return CharSet.WORD.negate();
+                case 's':
+                    return CharSet.SPACE;
+                case 'S':
+                    return CharSet.SPACE.negate();
+                case 't':
+                    return '\t';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 'f':
+                    return '\f';
+                case 'a':
+                    return '\u0007';
+                case 'e':
+                    return '\u001B';
+                case 'x':
+                    return hex(2);
+                case 'u':
+                    return hex(4);
+                default:
+                    if (Character.isLetterOrDigit(c)) {
+                        throw new Unsupported();
+                    }
+                    return c;
+            }
+        }
+
+        private Character hex(int digits) {
+            if (pos + digits > regex.length()) {
+                throw new Unsupported();
+            }
+            var value = 0;
+            for (var idx = 0; idx < digits; idx++) {
+                var digit = Character.digit(regex.charAt(pos++), 16);
+                if (digit < 0) {
+                    throw new Unsupported();
+                }
+                value = value * 16 + digit;
+            }
+            if (Character.isSurrogate((char) value)) {
+                throw new Unsupported();
+            }
+            return (char) value;
+        }
+
+        private int number() {
+            var begin = pos;
+            var value = 0L;
+            while (pos < regex.length() && regex.charAt(pos) >= '0' && regex.charAt(pos) <= '9') {
+                value = value * 10 + (regex.charAt(pos++) - '0');
+                if (value > MAX_NFA_STATES) {
+                    throw new Unsupported();
+                }
+            }
+            if (pos == begin) {
+                throw new Unsupported();
+            }
+            return (int) value;
+        }
+
+        private boolean peek(char c) {
+            return pos < regex.length() && regex.charAt(pos) == c;
+        }
+
+        private void expect(char c) {
+            if (!peek(c)) {
+                throw new Unsupported();
+            }
+            pos++;
+        }
+    }
+
+    /**
+     * Thompson automaton built back to front: every fragment is compiled against the state that follows it.
+     */
+    private static final class Nfa {
+
+        static final int CHAR = 0;
+        static final int SPLIT = 1;
+        static final int MATCH = 2;
+
+        private final List<CharSet> sets = new ArrayList<>();
+        private int[] kinds = new int[64];
+        private int[] args = new int[64];
+        private int[] outs = new int[64];
+        private int[] alts = new int[64];
+        private int size;
+
+        int state(int kind, int arg, int out, int alt) {
+            if (size == MAX_NFA_STATES) {
+                throw new Unsupported();
+            }
+            if (size == kinds.length) {
+                kinds = Arrays.copyOf(kinds, size * 2);
+                args = Arrays.copyOf(args, size * 2);
+                outs = Arrays.copyOf(outs, size * 2);
+                alts = Arrays.copyOf(alts, size * 2);
+            }
+            kinds[size] = kind;
+            args[size] = arg;
+            outs[size] = out;
+            alts[size] = alt;
+            return size++;
+        }
+
+        int compile(Node node, int next) {
+            if (node instanceof CharSet) {
+                sets.add((CharSet) node);
+                return state(CHAR, sets.size() - 1, next, -1);
+            } else if (node instanceof Concat) {
+                var items = ((Concat) node).items;
+                var entry = next;
+                for (var idx = items.size() - 1; idx >= 0; idx--) {
+                    entry = compile(items.get(idx), entry);
+                }
+                return entry;
+            } else if (node instanceof Alt) {
+                var items = ((Alt) node).items;
+                var entry = compile(items.get(items.size() - 1), next);
+                for (var idx = items.size() - 2; idx >= 0; idx--) {
+                    entry = state(SPLIT, -1, compile(items.get(idx), next), entry);
+                }
+                return entry;
+            }
+            var repeat = (Repeat) node;
+            int entry;
+            if (repeat.max == UNBOUNDED) {
+                entry = state(SPLIT, -1, -1, next);
+                outs[entry] = compile(repeat.node, entry);
+            } else {
+                entry = next;
+                for (var idx = repeat.min; idx < repeat.max; idx++) {
+                    entry = state(SPLIT, -1, compile(repeat.node, entry), next);
+                }
+            }
+            for (var idx = 0; idx < repeat.min; idx++) {
+                entry = compile(repeat.node, entry);
+            }
+            return entry;
+        }
+
+        RegexDfa determinize(int nfaStart, int minLength, int maxLength, String prefix) {
+            var boundaries = new TreeSet<Integer>();
+            boundaries.add(0);
+            for (var set : sets) {
+                for (var idx = 0; idx < set.ranges.length; idx += 2) {
+                    boundaries.add(set.ranges[idx]);
+                    if (set.ranges[idx + 1] + 1 < CHAR_LIMIT) {
+                        boundaries.add(set.ranges[idx + 1] + 1);
+                    }
+                }
+            }
+            var classStarts = boundaries.stream().mapToInt(Integer::intValue).toArray();
+            var classCount = classStarts.length;
+            var membership = new boolean[sets.size()][classCount];
+            for (var setIdx = 0; setIdx < sets.size(); setIdx++) {
+                for (var cls = 0; cls < classCount; cls++) {
+                    membership[setIdx][cls] = sets.get(setIdx).contains(classStarts[cls]);
+                }
+            }
+
+            var states = new ArrayList<BitSet>();
+            var index = new HashMap<BitSet, Integer>();
+            states.add(new BitSet());
+            index.put(states.get(DEAD), DEAD);
+            var initial = closure(single(nfaStart));
+            states.add(initial);
+            index.put(initial, 1);
+            var rows = new ArrayList<int[]>();
+            rows.add(new int[classCount]);
+            // states are numbered in discovery order, so row i always belongs to state i
+            for (var current = 1; current < states.size(); current++) {
+                var members = states.get(current);
+                var row = new int[classCount];
+                for (var cls = 0; cls < classCount; cls++) {
+                    var moved = new BitSet();
+                    for (var nfaState = members.nextSetBit(0);
+                            nfaState >= 0;
+                            nfaState = members.nextSetBit(nfaState + 1)) {
+                        if (kinds[nfaState] == CHAR && membership[args[nfaState]][cls]) {
+                            moved.set(outs[nfaState]);
+                        }
+                    }
+                    var target = closure(moved);
+                    var existing = index.get(target);
+                    if (existing == null) {
+                        if (states.size() == MAX_DFA_STATES) {
+                            throw new Unsupported();
+                        }
+                        existing = states.size();
+                        states.add(target);
+                        index.put(target, existing);
+                    }
+                    row[cls] = existing;
+                }
+                rows.add(row);
+            }
+            var transitions = new int[states.size() * classCount];
+            var accepting = new boolean[states.size()];
+            for (var state = 0; state < states.size(); state++) {
+                System.arraycopy(rows.get(state), 0, transitions, state * classCount, classCount);
+                var members = states.get(state);
+                for (var nfaState = members.nextSetBit(0);
+                        nfaState >= 0;
+                        nfaState = members.nextSetBit(nfaState + 1)) {
+                    if (kinds[nfaState] == MATCH) {
+                        accepting[state] = true;
+                    }
+                }
+            }
+            return new RegexDfa(classStarts, transitions, accepting, 1, minLength, maxLength, prefix);
+        }
+
+        private static BitSet single(int state) {
+            var result = new BitSet();
+            result.set(state);
+            return result;
+        }
+
+        // keeps only consuming and accepting states, so equal closures compare equal
+        private BitSet closure(BitSet seeds) {
+            var result = new BitSet();
+            var visited = new BitSet();
+            var stack = new ArrayDeque<Integer>();
+            for (var state = seeds.nextSetBit(0); state >= 0; state = seeds.nextSetBit(state + 1)) {
+                stack.push(state);
+            }
+            while (!stack.isEmpty()) {
+                int state = stack.pop();
+                if (visited.get(state)) {
+                    continue;
+                }
+                visited.set(state);
+                if (kinds[state] == SPLIT) {
+                    stack.push(alts[state]);
+                    stack.push(outs[state]);
+                } else {
+                    result.set(state);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -1,31 +1,67 @@
 package com.varlanv.konstraints;
 
+import java.util.Objects;
 import java.util.function.Predicate;
 import org.jspecify.annotations.NonNull;
 
 public final class RootNumberAssertions<TARGET extends Comparable<TARGET>, ROOT> {
 
+    private final NullSpec<ROOT> parent;
+    private final Rules<TARGET> rules;
+
+    RootNumberAssertions(NullSpec<ROOT> parent, Rules<TARGET> rules) {
+        this.parent = parent;
+        this.rules = rules;
+    }
+
     public RootNumberAssertions<TARGET, ROOT> check(String message, Predicate<@NonNull TARGET> action) {
-        return null;
+        return withRule(TargetCheck.predicate(action, violation(message)));
+    }
+
+    /**
+     * Same as {@link #check(String, Predicate)}, but the predicate may block. Under
+     * {@link ValidationSpec#validateAsync(Object)} it runs concurrently with the other async checks of the subject.
+     */
+    public RootNumberAssertions<TARGET, ROOT> checkAsync(String message, Predicate<@NonNull TARGET> action) {
+        return withRule(new AsyncCheck<>(action, violation(message)));
     }
 
     public RootNumberAssertions<TARGET, ROOT> gte(TARGET target) {
-        return null;
+        Objects.requireNonNull(target, "nulls are not supported");
+        return withRule(TargetCheck.predicate(
+                value -> value.compareTo(target) >= 0, violation("must be greater than or equal to " + target)));
     }
 
     public RootNumberAssertions<TARGET, ROOT> lte(TARGET target) {
-        return null;
+        Objects.requireNonNull(target, "nulls are not supported");
+        return withRule(TargetCheck.predicate(
+                value -> value.compareTo(target) <= 0, violation("must be less than or equal to " + target)));
     }
 
     public RootNumberAssertions<TARGET, ROOT> inRange(TARGET minTarget, TARGET maxTarget) {
-        return null;
+        Objects.requireNonNull(minTarget, "nulls are not supported");
+        Objects.requireNonNull(maxTarget, "nulls are not supported");
+        if (minTarget.compareTo(maxTarget) > 0) {
+            throw new IllegalArgumentException("min must be less than or equal to max");
+        }
+        return withRule(TargetCheck.predicate(
+                value -> value.compareTo(minTarget) >= 0 && value.compareTo(maxTarget) <= 0,
+                violation("must be between " + minTarget + " and " + maxTarget)));
     }
 
     AssertionsSpec<ROOT> parent() {
-        return null;
+        return parent.parent.parent;
+    }
+
+    Rules<TARGET> rules() {
+        return rules;
+    }
+
+    private RootNumberAssertions<TARGET, ROOT> withRule(Rule<TARGET> rule) {
+        return new RootNumberAssertions<>(parent, rules.add(rule));
     }
 
-    Rules<ROOT> rules() {
-        return null;
+    private Violation violation(String message) {
+        return Violation.of(parent.parent.fieldName, message);
     }
 }
@@ -2,6 +2,40 @@ package com.varlanv.konstraints;
 
 import java.util.function.BiFunction;
 import org.jetbrains.annotations.NotNull;
+import org.jspecify.annotations.Nullable;
 
 @FunctionalInterface
-interface Rule<SUBJECT> extends BiFunction<@NotNull SUBJECT, Violations, @NotNull Violations> {}
+interface Rule<SUBJECT> extends BiFunction<@NotNull SUBJECT, Violations, @NotNull Violations> {
+
+    /**
+     * Same as {@link #apply(Object, Object)}, but allowed to return as soon as one violation is added. Rules that can
+     * produce at most one violation do not need to override it.
+     */
+    default Violations applyFirst(SUBJECT subject, Violations violations) {
+        return apply(subject, violations);
+    }
+
+    /**
+     * Pass/fail form of {@link #apply(Object, Object)}. Built-in rules override it so that a passing subject never
+     * allocates violations.
+     */
+    default boolean test(SUBJECT subject) {
+        return apply(subject, Violations.create()).isEmpty();
+    }
+
+    /**
+     * Short human readable name of the rule, used by {@link ValidationSpec#describePlan()}.
+     */
+    default String describe() {
+        return "custom rule";
+    }
+
+    /**
+     * Path of the field this rule reads, or {@code null} when it may read anything. Every violation of a rule with a
+     * path is reported under that path or below it, which lets {@link ValidationSpec#revalidate} skip rules of
+     * unchanged fields.
+     */
+    default @Nullable String fieldPath() {
+        return null;
+    }
+}
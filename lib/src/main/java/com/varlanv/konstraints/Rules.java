@@ -10,10 +10,34 @@ interface Rules<SUBJECT> {
 
     Violations apply(SUBJECT t);
 
+    /**
+     * Runs all rules into the given accumulator and returns the resulting accumulator as is.
+     */
+    Violations apply(SUBJECT t, Violations accumulator);
+
+    Violations applyFirst(SUBJECT t);
+
+    /**
+     * Runs every rule over subjects {@code [from, to)} before moving on to the next rule. {@code accumulators[idx]}
+     * holds the violations of {@code subjects.get(idx)} and is replaced in place.
+     */
+    void applyBatch(List<SUBJECT> subjects, int from, int to, Violations[] accumulators);
+
+    /**
+     * Runs the top-level rule at {@code index} of {@link #list()} alone into the given accumulator.
+     */
+    default Violations applyRule(int index, SUBJECT t, Violations accumulator) {
+        return list().get(index).apply(t, accumulator);
+    }
+
+    boolean test(SUBJECT t);
+
     List<Rule<SUBJECT>> list();
 
     boolean isEmpty();
 
+    Rules<SUBJECT> compile();
+
     static <SUBJECT> Rules<SUBJECT> empty() {
         @SuppressWarnings("unchecked")
         var instance = (Rules<SUBJECT>) EmptyRules.INSTANCE;
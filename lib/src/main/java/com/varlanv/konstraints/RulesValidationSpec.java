@@ -1,16 +1,41 @@
 package com.varlanv.konstraints;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+import org.jspecify.annotations.Nullable;
 
 final class RulesValidationSpec<SUBJECT> implements ValidationSpec<SUBJECT> {
 
+    // one validation in this many is also timed rule by rule for ValidationMetrics#ruleSampled
+    private static final int RULE_SAMPLE_RATE = 64;
+
     private final Rules<SUBJECT> rules;
+    private final boolean scratchBuffer;
+    private final @Nullable String name;
+    private final @Nullable Metered metered;
 
     RulesValidationSpec(Rules<SUBJECT> rules) {
+        this(rules, false, null, null);
+    }
+
+    private RulesValidationSpec(
+            Rules<SUBJECT> rules, boolean scratchBuffer, @Nullable String name, @Nullable Metered metered) {
         this.rules = rules;
+        this.scratchBuffer = scratchBuffer;
+        this.name = name;
+        this.metered = metered;
     }
 
     @Override
@@ -30,14 +55,331 @@ final class RulesValidationSpec<SUBJECT> implements ValidationSpec<SUBJECT> {
         return t -> validate(t).orElseThrow(onException);
     }
 
+    @Override
+    public ValidationSpec<SUBJECT> compile() {
+        return new RulesValidationSpec<>(rules.compile(), scratchBuffer, name, metered);
+    }
+
+    @Override
+    public ValidationSpec<SUBJECT> compile(ValidationBackend backend) {
+        Objects.requireNonNull(backend, "nulls are not supported");
+        if (backend != ValidationBackend.BYTECODE || rules instanceof AdaptiveRules) {
+            return ValidationSpec.super.compile(backend);
+        }
+        return new RulesValidationSpec<>(GeneratedRules.generate(rules), scratchBuffer, name, metered);
+    }
+
+    @Override
+    public ValidationSpec<SUBJECT> adaptive() {
+        return rules instanceof AdaptiveRules || rules.list().size() < 2
+                ? this
+                : new RulesValidationSpec<>(new AdaptiveRules<>(rules), scratchBuffer, name, metered);
+    }
+
+    @Override
+    public String describePlan() {
+        if (rules instanceof AdaptiveRules) {
+            return ((AdaptiveRules<SUBJECT>) rules).describe();
+        }
+        var builder = new StringBuilder()
+                .append(
+                        rules instanceof GeneratedRules
+                                ? "bytecode"
+                                : rules instanceof CompiledRules ? "compiled" : "interpreted")
+                .append(", declaration order");
+        var list = rules.list();
+        for (var idx = 0; idx < list.size(); idx++) {
+            builder.append(System.lineSeparator())
+                    .append("  ")
+                    .append(idx + 1)
+                    .append(". ")
+                    .append(list.get(idx).describe());
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public ValidationSpec<SUBJECT> withMetrics(String name, ValidationMetrics metrics) {
+        Objects.requireNonNull(name, "nulls are not supported");
+        Objects.requireNonNull(metrics, "nulls are not supported");
+        var list = rules.list();
+        var ruleNames = new String[list.size()];
+        for (var idx = 0; idx < ruleNames.length; idx++) {
+            ruleNames[idx] = list.get(idx).describe();
+        }
+        return new RulesValidationSpec<>(rules, scratchBuffer, this.name, new Metered(name, metrics, ruleNames));
+    }
+
+    @Override
+    public ValidationSpec<SUBJECT> named(String name) {
+        Objects.requireNonNull(name, "nulls are not supported");
+        return new RulesValidationSpec<>(rules, scratchBuffer, name, metered);
+    }
+
+    @Override
+    public ValidationSpec<SUBJECT> withScratchBuffer() {
+        return scratchBuffer ? this : new RulesValidationSpec<>(rules, true, name, metered);
+    }
+
     @Override
     public Valid<SUBJECT> validate(SUBJECT t) {
         Objects.requireNonNull(t, "nulls are not supported");
-        var violations = rules.apply(Objects.requireNonNull(t));
+        var violations = metered == null && !ValidationEvents.AVAILABLE ? apply(t) : applyObserved(t);
+        if (violations.isEmpty()) {
+            return Valid.valid(t);
+        } else {
+            return Valid.invalid(violations);
+        }
+    }
+
+    private Violations apply(SUBJECT t) {
+        return scratchBuffer ? applyWithScratchBuffer(t) : rules.apply(t);
+    }
+
+    private Violations applyObserved(SUBJECT t) {
+        var metered = this.metered;
+        var event = ValidationEvents.begin();
+        var start = metered == null ? 0L : System.nanoTime();
+        var sampled = metered != null && ThreadLocalRandom.current().nextInt(RULE_SAMPLE_RATE) == 0;
+        var slowRules = ValidationEvents.slowRuleEnabled();
+        var violations = sampled || slowRules ? applyRuleByRule(sampled ? metered : null, slowRules, t) : apply(t);
+        if (metered != null) {
+            metered.validated(System.nanoTime() - start, violations);
+        }
+        if (event != null) {
+            var valid = violations.isEmpty();
+            ValidationEvents.commit(event, specName(), t, valid, valid ? 0 : violations.list().size());
+        }
+        return violations;
+    }
+
+    private Violations applyRuleByRule(@Nullable Metered sampledBy, boolean slowRules, SUBJECT t) {
+        var violations = new ArrayList<Violation>();
+        var list = rules.list();
+        for (var idx = 0; idx < list.size(); idx++) {
+            var slowRule = slowRules ? ValidationEvents.beginRule() : null;
+            var start = sampledBy == null ? 0L : System.nanoTime();
+            var ruleViolations = rules.applyRule(idx, t, EmptyToMutableViolations.INSTANCE);
+            var rejected = !ruleViolations.isEmpty();
+            if (sampledBy != null) {
+                sampledBy.metrics.ruleSampled(
+                        sampledBy.name, sampledBy.ruleNames[idx], System.nanoTime() - start, rejected);
+            }
+            if (slowRule != null) {
+                ValidationEvents.commitRule(slowRule, specName(), list.get(idx), rejected);
+            }
+            if (rejected) {
+                violations.addAll(ruleViolations.list());
+            }
+        }
+        return ImmutableTrustedViolations.of(violations);
+    }
+
+    private @Nullable String specName() {
+        var metered = this.metered;
+        return name != null || metered == null ? name : metered.name;
+    }
+
+    private Violations applyWithScratchBuffer(SUBJECT t) {
+        var scratch = ScratchViolations.acquire();
+        if (scratch == null) {
+            return rules.apply(t);
+        }
+        try {
+            rules.apply(t, scratch);
+        } catch (RuntimeException | Error e) {
+            scratch.release();
+            throw e;
+        }
+        return scratch.release();
+    }
+
+    @Override
+    public boolean test(SUBJECT t) {
+        Objects.requireNonNull(t, "nulls are not supported");
+        var metered = this.metered;
+        if (metered == null && !ValidationEvents.AVAILABLE) {
+            return rules.test(t);
+        }
+        var event = ValidationEvents.begin();
+        var start = metered == null ? 0L : System.nanoTime();
+        var valid = rules.test(t);
+        if (metered != null) {
+            metered.metrics.validated(metered.name, System.nanoTime() - start, valid);
+        }
+        if (event != null) {
+            ValidationEvents.commit(event, specName(), t, valid, -1);
+        }
+        return valid;
+    }
+
+    @Override
+    public Valid<SUBJECT> validateFirst(SUBJECT t) {
+        Objects.requireNonNull(t, "nulls are not supported");
+        var metered = this.metered;
+        Violations violations;
+        if (metered == null && !ValidationEvents.AVAILABLE) {
+            violations = rules.applyFirst(t);
+        } else {
+            var event = ValidationEvents.begin();
+            var start = metered == null ? 0L : System.nanoTime();
+            violations = rules.applyFirst(t);
+            if (metered != null) {
+                metered.validated(System.nanoTime() - start, violations);
+            }
+            if (event != null) {
+                var valid = violations.isEmpty();
+                ValidationEvents.commit(event, specName(), t, valid, valid ? 0 : 1);
+            }
+        }
         if (violations.isEmpty()) {
             return Valid.valid(t);
         } else {
             return Valid.invalid(violations);
         }
     }
+
+    @Override
+    public Valid<SUBJECT> revalidate(Valid<SUBJECT> previous, SUBJECT t, Set<String> changedFields) {
+        Objects.requireNonNull(previous, "nulls are not supported");
+        Objects.requireNonNull(t, "nulls are not supported");
+        Objects.requireNonNull(changedFields, "nulls are not supported");
+        var list = rules.list();
+        var previousViolations = previous.violations().list();
+        // each carried violation belongs to the rule with the longest path that covers it; a violation that no rule
+        // owns may come from any rule, so then every rule runs again rather than dropping it. When several rules
+        // declare that longest path, the violation may come from any of them, so all of them run again instead
+        var rerunAll = false;
+        Set<String> rerunPaths = Set.of();
+        var owners = new int[previousViolations.size()];
+        for (var violationIdx = 0; violationIdx < owners.length; violationIdx++) {
+            var field = previousViolations.get(violationIdx).field();
+            var owner = -1;
+            var ownerLength = -1;
+            var tied = false;
+            for (var idx = 0; idx < list.size(); idx++) {
+                var path = list.get(idx).fieldPath();
+                if (path != null && path.length() >= ownerLength && covers(path, field)) {
+                    tied = path.length() == ownerLength;
+                    owner = idx;
+                    ownerLength = path.length();
+                }
+            }
+            if (tied) {
+                if (rerunPaths.isEmpty()) {
+                    rerunPaths = new HashSet<>();
+                }
+                rerunPaths.add(list.get(owner).fieldPath());
+                owner = -2;
+            }
+            owners[violationIdx] = owner;
+            rerunAll |= owner == -1;
+        }
+        Violations violations = EmptyToMutableViolations.INSTANCE;
+        for (var idx = 0; idx < list.size(); idx++) {
+            var path = list.get(idx).fieldPath();
+            if (rerunAll || path == null || rerunPaths.contains(path) || changed(path, changedFields)) {
+                violations = rules.applyRule(idx, t, violations);
+            } else {
+                for (var violationIdx = 0; violationIdx < owners.length; violationIdx++) {
+                    if (owners[violationIdx] == idx) {
+                        violations = violations.add(previousViolations.get(violationIdx));
+                    }
+                }
+            }
+        }
+        if (violations.isEmpty()) {
+            return Valid.valid(t);
+        }
+        return Valid.invalid(ImmutableTrustedViolations.of(violations.list()));
+    }
+
+    private static boolean changed(String path, Set<String> changedFields) {
+        for (var changedField : changedFields) {
+            if (covers(path, changedField) || covers(changedField, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean covers(String path, String field) {
+        if (!field.startsWith(path)) {
+            return false;
+        }
+        if (field.length() == path.length()) {
+            return true;
+        }
+        var separator = field.charAt(path.length());
+        return separator == '.' || separator == '[';
+    }
+
+    @Override
+    public ValidBatch<SUBJECT> validateBatch(List<SUBJECT> subjects) {
+        var items = List.copyOf(subjects);
+        var accumulators = new Violations[items.size()];
+        Arrays.fill(accumulators, EmptyToMutableViolations.INSTANCE);
+        rules.applyBatch(items, 0, items.size(), accumulators);
+        return ArrayValidBatch.of(items, accumulators);
+    }
+
+    @Override
+    public ValidBatch<SUBJECT> validateParallel(List<SUBJECT> subjects, ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "nulls are not supported");
+        var items = List.copyOf(subjects);
+        var accumulators = new Violations[items.size()];
+        Arrays.fill(accumulators, EmptyToMutableViolations.INSTANCE);
+        BatchTask.invoke(pool, items.size(), (from, to) -> rules.applyBatch(items, from, to, accumulators));
+        return ArrayValidBatch.of(items, accumulators);
+    }
+
+    @Override
+    public CompletableFuture<Valid<SUBJECT>> validateAsync(SUBJECT t, Executor executor) {
+        Objects.requireNonNull(t, "nulls are not supported");
+        Objects.requireNonNull(executor, "nulls are not supported");
+        var pending = new PendingViolations(executor);
+        Violations violations;
+        try {
+            violations = rules.apply(t, pending);
+        } catch (RuntimeException | Error e) {
+            // synchronous rules run on the caller thread, their failures still belong to the returned future
+            return CompletableFuture.failedFuture(e);
+        }
+        var completion = violations == pending
+                ? pending.completion()
+                : CompletableFuture.completedFuture(ImmutableTrustedViolations.copyOf(violations));
+        return completion.thenApply(result -> result.isEmpty() ? Valid.valid(t) : Valid.invalid(result));
+    }
+
+    @Override
+    public Collector<SUBJECT, ?, ValidBatch<SUBJECT>> collector() {
+        return BatchCollector.collector(t -> {
+            Objects.requireNonNull(t, "nulls are not supported");
+            return rules.apply(t, EmptyToMutableViolations.INSTANCE);
+        });
+    }
+
+    private static final class Metered {
+
+        final String name;
+        final ValidationMetrics metrics;
+        // describe() of each top-level rule, computed once so that sampling does not build strings
+        final String[] ruleNames;
+
+        Metered(String name, ValidationMetrics metrics, String[] ruleNames) {
+            this.name = name;
+            this.metrics = metrics;
+            this.ruleNames = ruleNames;
+        }
+
+        void validated(long nanos, Violations violations) {
+            var valid = violations.isEmpty();
+            metrics.validated(name, nanos, valid);
+            if (!valid) {
+                for (var violation : violations.list()) {
+                    metrics.rejected(name, violation);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package com.varlanv.konstraints;
+
+import java.util.Arrays;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Per-thread mutable accumulator reused across validations. A validation {@link #acquire() acquires} the buffer of
+ * the current thread, runs its rules into it and {@link #release() releases} it, which copies the violations out
+ * only when there are any. A nested validation on the same thread (for example from a custom check) finds the
+ * buffer in use and falls back to a regular accumulator.
+ *
+ * <p>Virtual threads get their own buffer like any other thread, so the saving comes from long-lived workers.
+ */
+final class ScratchViolations implements Violations {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int RETAINED_CAPACITY = 256;
+    private static final ThreadLocal<ScratchViolations> CURRENT = ThreadLocal.withInitial(ScratchViolations::new);
+
+    private Violation[] items = new Violation[INITIAL_CAPACITY];
+    private int size;
+    private boolean inUse;
+
+    private ScratchViolations() {}
+
+    static @Nullable ScratchViolations acquire() {
+        var scratch = CURRENT.get();
+        if (scratch.inUse) {
+            return null;
+        }
+        scratch.inUse = true;
+        return scratch;
+    }
+
+    /**
+     * Returns an immutable copy of the collected violations and makes the buffer available to the next validation.
+     */
+    Violations release() {
+        var size = this.size;
+        var result = size == 0 ? Violations.create() : ImmutableTrustedViolations.of(Arrays.copyOf(items, size));
+        if (items.length > RETAINED_CAPACITY) {
+            items = new Violation[INITIAL_CAPACITY];
+        } else {
+            Arrays.fill(items, 0, size, null);
+        }
+        this.size = 0;
+        this.inUse = false;
+        return result;
+    }
+
+    @Override
+    public List<Violation> list() {
+        return new ImmutableTrustedViolations.ArrayView(items, size);
+    }
+
+    @Override
+    public Violations add(Violation violation) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+        }
+        items[size++] = violation;
+        return this;
+    }
+
+    @Override
+    public Violations merge(Violations other) {
+        for (var violation : other.list()) {
+            add(violation);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.varlanv.konstraints;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.jspecify.annotations.Nullable;
+
+@Name("konstraints.SlowRule")
+@Label("Slow Validation Rule")
+@Category("konstraints")
+@Description("Top-level rule of a spec that took longer than the threshold")
+@Enabled(false)
+@Threshold("1 ms")
+@StackTrace(false)
+final class SlowRuleEvent extends jdk.jfr.Event {
+
+    @Label("Spec")
+    @Nullable String spec;
+
+    @Label("Rule")
+    @Nullable String rule;
+
+    @Label("Rejected")
+    boolean rejected;
+}
@@ -8,6 +8,8 @@ import java.util.regex.Pattern;
 
 public final class StringAssertions<TARGET extends CharSequence, SUBJECT> {
 
+    private static final long[] ASCII = {-1L, -1L};
+
     private final NullSpec<SUBJECT> parent;
     final Rules<TARGET> rules;
 
@@ -18,45 +20,84 @@ public final class StringAssertions<TARGET extends CharSequence, SUBJECT> {
     }
 
     public StringAssertions<TARGET, SUBJECT> check(String message, Predicate<@NonNull TARGET> action) {
-        return null;
+        return withRule(TargetCheck.predicate(action, violation(message)));
+    }
+
+    /**
+     * Same as {@link #check(String, Predicate)}, but the predicate may block. Under
+     * {@link ValidationSpec#validateAsync(Object)} it runs concurrently with the other async checks of the subject.
+     */
+    public StringAssertions<TARGET, SUBJECT> checkAsync(String message, Predicate<@NonNull TARGET> action) {
+        return withRule(new AsyncCheck<>(action, violation(message)));
     }
 
     public StringAssertions<TARGET, SUBJECT> empty() {
-        return null;
+        return withRule(TargetCheck.of(TargetCheck.EMPTY, violation("must be empty")));
     }
 
     public StringAssertions<TARGET, SUBJECT> notEmpty() {
-        return null;
+        return withRule(TargetCheck.of(TargetCheck.NOT_EMPTY, violation("must not be empty")));
     }
 
     public StringAssertions<TARGET, SUBJECT> notBlank() {
-        return null;
+        return withRule(TargetCheck.of(TargetCheck.NOT_BLANK, violation("must not be blank")));
     }
 
     public StringAssertions<TARGET, SUBJECT> length(@Range(from = 1, to = Integer.MAX_VALUE) int length) {
-        return null;
+        return withRule(TargetCheck.length(length, length, violation("length must be " + length)));
     }
 
     public StringAssertions<TARGET, SUBJECT> minLength(@Range(from = 1, to = Integer.MAX_VALUE) int minLength) {
-        return null;
+        return withRule(TargetCheck.length(
+            minLength, Integer.MAX_VALUE, violation("length must be at least " + minLength)));
     }
 
     public StringAssertions<TARGET, SUBJECT> maxLength(@Range(from = 1, to = Integer.MAX_VALUE) int maxLength) {
-        return null;
+        return withRule(TargetCheck.length(0, maxLength, violation("length must be at most " + maxLength)));
     }
 
     public StringAssertions<TARGET, SUBJECT> lengthRange(
         @Range(from = 0, to = Integer.MAX_VALUE) int minLength,
         @Range(from = 1, to = Integer.MAX_VALUE) int maxLength) {
-        return null;
+        if (minLength > maxLength) {
+            throw new IllegalArgumentException("minLength must be less than or equal to maxLength");
+        }
+        return withRule(TargetCheck.length(
+            minLength, maxLength, violation("length must be between " + minLength + " and " + maxLength)));
     }
 
     public StringAssertions<TARGET, SUBJECT> matches(Pattern pattern) {
-        return new StringAssertions<>(parent, rules.add(((target, violations) -> {
-            if (!pattern.matcher(target.toString()).matches()) {
-                return violations.add(Violation.of("not match"));
-            }
-            return violations;
-        })));
+        return withRule(TargetCheck.matches(pattern, violation("not match")));
+    }
+
+    public StringAssertions<TARGET, SUBJECT> asciiOnly() {
+        return withRule(TargetCheck.charset(ASCII, violation("must contain only ASCII characters")));
+    }
+
+    /**
+     * Allows only the given characters. Characters outside of the Basic Multilingual Plane are not supported.
+     */
+    public StringAssertions<TARGET, SUBJECT> charset(CharSequence allowedChars) {
+        return withRule(TargetCheck.charset(
+            TargetCheck.charsetTable(allowedChars), violation("must contain only allowed characters")));
+    }
+
+    public StringAssertions<TARGET, SUBJECT> noControlChars() {
+        return withRule(TargetCheck.of(TargetCheck.NO_CONTROL_CHARS, violation("must not contain control characters")));
+    }
+
+    /**
+     * Rules to run against the field, with all length and char-level checks fused into a single scan.
+     */
+    Rules<TARGET> fusedRules() {
+        return FusedStringRule.fuse(rules);
+    }
+
+    private StringAssertions<TARGET, SUBJECT> withRule(Rule<TARGET> rule) {
+        return new StringAssertions<>(parent, rules.add(rule));
+    }
+
+    private Violation violation(String message) {
+        return Violation.of(parent.parent.fieldName, message);
     }
 }
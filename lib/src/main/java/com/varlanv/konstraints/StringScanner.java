@@ -0,0 +1,101 @@
+package com.varlanv.konstraints;
+
+import java.util.List;
+
+/**
+ * Evaluates up to 32 char-level {@link TargetCheck}s of one string in a single pass. Length-only checks are decided
+ * before the scan, and the scan stops as soon as every remaining check is decided: blank detection at the first
+ * non-whitespace char, control char bans at the first control char and each charset at its first disallowed char.
+ * {@link #scan(CharSequence)} returns a bitmask with bit {@code i} set when check {@code i} failed.
+ */
+final class StringScanner {
+
+    static final int MAX_CHECKS = Integer.SIZE;
+
+    private final int[] kinds;
+    private final int[] mins;
+    private final int[] maxs;
+    private final long[][] tables;
+    private final int scanMask;
+    private final int blankMask;
+    private final int controlMask;
+    private final int charsetMask;
+
+    StringScanner(List<TargetCheck<?>> checks) {
+        if (checks.size() > MAX_CHECKS) {
+            throw new IllegalArgumentException("At most " + MAX_CHECKS + " checks can be fused");
+        }
+        var size = checks.size();
+        kinds = new int[size];
+        mins = new int[size];
+        maxs = new int[size];
+        tables = new long[size][];
+        int blank = 0, control = 0, charset = 0;
+        for (var slot = 0; slot < size; slot++) {
+            var check = checks.get(slot);
+            kinds[slot] = check.kind;
+            mins[slot] = check.min;
+            maxs[slot] = check.max;
+            if (check.kind == TargetCheck.NOT_BLANK) {
+                blank |= 1 << slot;
+            } else if (check.kind == TargetCheck.NO_CONTROL_CHARS) {
+                control |= 1 << slot;
+            } else if (check.kind == TargetCheck.CHARSET) {
+                charset |= 1 << slot;
+                tables[slot] = (long[]) check.argument;
+            }
+        }
+        blankMask = blank;
+        controlMask = control;
+        charsetMask = charset;
+        scanMask = blank | control | charset;
+    }
+
+    int scan(CharSequence value) {
+        var length = value.length();
+        var failed = 0;
+        for (var slot = 0; slot < kinds.length; slot++) {
+            switch (kinds[slot]) {
+                case TargetCheck.EMPTY:
+                    if (length != 0) {
+                        failed |= 1 << slot;
+                    }
+                    break;
+                case TargetCheck.NOT_EMPTY:
+                    if (length == 0) {
+                        failed |= 1 << slot;
+                    }
+                    break;
+                case TargetCheck.LENGTH:
+                    if (length < mins[slot] || length > maxs[slot]) {
+                        failed |= 1 << slot;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        var pending = scanMask;
+        for (var idx = 0; idx < length && pending != 0; idx++) {
+            var c = value.charAt(idx);
+            if ((pending & blankMask) != 0 && !Character.isWhitespace(c)) {
+                pending &= ~blankMask;
+            }
+            if ((pending & controlMask) != 0 && Character.isISOControl(c)) {
+                failed |= pending & controlMask;
+                pending &= ~controlMask;
+            }
+            var charsets = pending & charsetMask;
+            while (charsets != 0) {
+                var slot = Integer.numberOfTrailingZeros(charsets);
+                charsets &= charsets - 1;
+                if (!TargetCheck.isAllowed(tables[slot], c)) {
+                    failed |= 1 << slot;
+                    pending &= ~(1 << slot);
+                }
+            }
+        }
+        // whatever is still pending passed, except blank detection, which only passes on a non-whitespace char
+        return failed | (pending & blankMask);
+    }
+}
@@ -0,0 +1,156 @@
+package com.varlanv.konstraints;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Single built-in assertion on an already extracted value. Unlike an arbitrary {@link Rule}, a check is plain data
+ * (kind, bounds, argument and a prebuilt violation), so {@link ValidationPlan} can lower it to an opcode.
+ */
+final class TargetCheck<TARGET> implements Rule<TARGET> {
+
+    static final int PREDICATE = 0;
+    static final int FAIL = 1;
+    static final int EMPTY = 2;
+    static final int NOT_EMPTY = 3;
+    static final int NOT_BLANK = 4;
+    static final int LENGTH = 5;
+    static final int MATCHES = 6;
+    static final int CHARSET = 7;
+    static final int NO_CONTROL_CHARS = 8;
+
+    final int kind;
+    final int min;
+    final int max;
+    final @Nullable Object argument;
+    final Violation violation;
+
+    private TargetCheck(int kind, int min, int max, @Nullable Object argument, Violation violation) {
+        this.kind = kind;
+        this.min = min;
+        this.max = max;
+        this.argument = argument;
+        this.violation = violation;
+    }
+
+    static <TARGET> TargetCheck<TARGET> predicate(Predicate<TARGET> predicate, Violation violation) {
+        return new TargetCheck<>(PREDICATE, 0, 0, predicate, violation);
+    }
+
+    static <TARGET> TargetCheck<TARGET> fail(Violation violation) {
+        return new TargetCheck<>(FAIL, 0, 0, null, violation);
+    }
+
+    static <TARGET> TargetCheck<TARGET> of(int kind, Violation violation) {
+        return new TargetCheck<>(kind, 0, 0, null, violation);
+    }
+
+    static <TARGET> TargetCheck<TARGET> length(int min, int max, Violation violation) {
+        return new TargetCheck<>(LENGTH, min, max, null, violation);
+    }
+
+    static <TARGET> TargetCheck<TARGET> matches(Pattern pattern, Violation violation) {
+        return new TargetCheck<>(MATCHES, 0, 0, PatternMatcher.of(pattern), violation);
+    }
+
+    static <TARGET> TargetCheck<TARGET> charset(long[] table, Violation violation) {
+        return new TargetCheck<>(CHARSET, 0, 0, table, violation);
+    }
+
+    /**
+     * Builds a lookup table for {@link #CHARSET}: bit {@code c} is set when char {@code c} is allowed.
+     */
+    static long[] charsetTable(CharSequence allowed) {
+        var max = 0;
+        for (var idx = 0; idx < allowed.length(); idx++) {
+            var c = allowed.charAt(idx);
+            if (Character.isSurrogate(c)) {
+                throw new IllegalArgumentException("allowed characters must be in the Basic Multilingual Plane");
+            }
+            max = Math.max(max, c);
+        }
+        var table = new long[(max >>> 6) + 1];
+        for (var idx = 0; idx < allowed.length(); idx++) {
+            var c = allowed.charAt(idx);
+            table[c >>> 6] |= 1L << c;
+        }
+        return table;
+    }
+
+    static boolean isAllowed(long[] table, char c) {
+        var word = c >>> 6;
+        return word < table.length && (table[word] & (1L << c)) != 0;
+    }
+
+    /**
+     * Whether the check looks only at the length or at individual chars, so {@link StringScanner} can fuse it.
+     */
+    boolean isCharLevel() {
+        switch (kind) {
+            case EMPTY:
+            case NOT_EMPTY:
+            case NOT_BLANK:
+            case LENGTH:
+            case CHARSET:
+            case NO_CONTROL_CHARS:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public Violations apply(TARGET target, Violations violations) {
+        return test(target) ? violations : violations.add(violation);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean test(TARGET target) {
+        switch (kind) {
+            case PREDICATE:
+                return ((Predicate<TARGET>) argument()).test(target);
+            case FAIL:
+                return false;
+            case EMPTY:
+                return ((CharSequence) target).length() == 0;
+            case NOT_EMPTY:
+                return ((CharSequence) target).length() != 0;
+            case NOT_BLANK:
+                return !Internals.isBlank((CharSequence) target);
+            case LENGTH:
+                var length = ((CharSequence) target).length();
+                return length >= min && length <= max;
+            case MATCHES:
+                return ((PatternMatcher) argument()).matches((CharSequence) target);
+            case CHARSET:
+                var table = (long[]) argument();
+                var chars = (CharSequence) target;
+                for (int idx = 0, size = chars.length(); idx < size; idx++) {
+                    if (!isAllowed(table, chars.charAt(idx))) {
+                        return false;
+                    }
+                }
+                return true;
+            case NO_CONTROL_CHARS:
+                var value = (CharSequence) target;
+                for (int idx = 0, size = value.length(); idx < size; idx++) {
+                    if (Character.isISOControl(value.charAt(idx))) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                throw new IllegalStateException("Unknown check kind [" + kind + "]");
+        }
+    }
+
+    private Object argument() {
+        var value = argument;
+        if (value == null) {
+            throw new IllegalStateException("Check kind [" + kind + "] has no argument");
+        }
+        return value;
+    }
+}
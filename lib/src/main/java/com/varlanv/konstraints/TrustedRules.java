@@ -26,20 +26,62 @@ final class TrustedRules<SUBJECT> implements Rules<SUBJECT> {
 
     @Override
     public Violations apply(SUBJECT t) {
-        Violations violations = EmptyToMutableViolations.INSTANCE;
+        return ImmutableTrustedViolations.of(apply(t, EmptyToMutableViolations.INSTANCE).list());
+    }
+
+    @Override
+    public Violations apply(SUBJECT t, Violations accumulator) {
+        var violations = accumulator;
         for (var rule : rules) {
             violations = rule.apply(t, violations);
         }
-        return ImmutableTrustedViolations.of(violations.list());
+        return violations;
+    }
+
+    @Override
+    public Violations applyFirst(SUBJECT t) {
+        var violations = Violations.create();
+        for (var rule : rules) {
+            violations = rule.applyFirst(t, violations);
+            if (!violations.isEmpty()) {
+                return violations;
+            }
+        }
+        return violations;
+    }
+
+    @Override
+    public void applyBatch(List<SUBJECT> subjects, int from, int to, Violations[] accumulators) {
+        for (var rule : rules) {
+            for (var idx = from; idx < to; idx++) {
+                accumulators[idx] = rule.apply(subjects.get(idx), accumulators[idx]);
+            }
+        }
+    }
+
+    @Override
+    public boolean test(SUBJECT t) {
+        var rules = this.rules;
+        for (int idx = 0, size = rules.size(); idx < size; idx++) {
+            if (!rules.get(idx).test(t)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public List<Rule<SUBJECT>> list() {
-        return List.of();
+        return rules;
     }
 
     @Override
     public boolean isEmpty() {
         return rules.isEmpty();
     }
+
+    @Override
+    public Rules<SUBJECT> compile() {
+        return new CompiledRules<>(this);
+    }
 }
@@ -2,6 +2,8 @@ package com.varlanv.konstraints;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.jspecify.annotations.NonNull;
@@ -12,6 +14,18 @@ public interface Valid<SUBJECT> {
 
     <NEXT_SUBJECT> Valid<NEXT_SUBJECT> flatMap(Function<SUBJECT, Valid<NEXT_SUBJECT>> mapper);
 
+    /**
+     * Asynchronous form of {@link #flatMap(Function)}, e.g. for chaining {@link ValidationSpec#validateAsync(Object)}.
+     * An invalid result completes immediately without calling {@code mapper}.
+     */
+    default <NEXT_SUBJECT> CompletableFuture<Valid<NEXT_SUBJECT>> flatMapAsync(
+            Function<SUBJECT, ? extends CompletionStage<Valid<NEXT_SUBJECT>>> mapper) {
+        Valid<CompletionStage<Valid<NEXT_SUBJECT>>> staged = flatMap(subject -> valid(mapper.apply(subject)));
+        return staged.isValid()
+                ? staged.optional().orElseThrow().toCompletableFuture()
+                : CompletableFuture.completedFuture(invalid(staged.violations()));
+    }
+
     SUBJECT orElseThrow(Supplier<? extends Throwable> exceptionSupplier);
 
     SUBJECT orElseThrow(Function<Violations, ? extends Throwable> exceptionFn);
@@ -43,6 +57,12 @@ public interface Valid<SUBJECT> {
                 return mapper.apply(supplier.get());
             }
 
+            @Override
+            public <R> CompletableFuture<Valid<R>> flatMapAsync(
+                    Function<@NonNull SUBJECT, ? extends CompletionStage<Valid<R>>> mapper) {
+                return mapper.apply(supplier.get()).toCompletableFuture();
+            }
+
             @Override
             public SUBJECT orElseThrow(Supplier<? extends Throwable> exceptionSupplier) {
                 return supplier.get();
@@ -91,6 +111,12 @@ public interface Valid<SUBJECT> {
                 return self();
             }
 
+            @Override
+            public <NEW_SUBJECT> CompletableFuture<Valid<NEW_SUBJECT>> flatMapAsync(
+                    Function<SUBJECT, ? extends CompletionStage<Valid<NEW_SUBJECT>>> mapper) {
+                return CompletableFuture.completedFuture(self());
+            }
+
             @Override
             public SUBJECT orElseThrow(Supplier<? extends Throwable> exceptionSupplier) {
                 throw Internals.hide(exceptionSupplier.get());
@@ -130,14 +156,20 @@ public interface Valid<SUBJECT> {
     }
 
     static <SUBJECT> ValidationSpec<SUBJECT> validationSpec(AssertionsOperator<SUBJECT> specAction) {
-        return new RulesValidationSpec<>(specAction
-                .apply(
-                        null
-                        //            AssertionsSpec.from(
-                        //                Rules.empty(),
-                        //                Function.identity()
-                        //            )
-                        )
-                .rules());
+        return new RulesValidationSpec<>(
+                specAction.apply(new AssertionsSpec<>(Rules.empty())).rules());
+    }
+
+    /**
+     * Same as {@link #validationSpec(AssertionsOperator)}, for a record whose fields are declared with
+     * {@link AssertionsSpec#component(String)}. Components are discovered once per record class.
+     *
+     * @throws IllegalArgumentException if {@code recordType} is not a record
+     */
+    static <SUBJECT> ValidationSpec<SUBJECT> validationSpec(
+            Class<SUBJECT> recordType, AssertionsOperator<SUBJECT> specAction) {
+        RecordComponents.of(recordType);
+        return new RulesValidationSpec<>(
+                specAction.apply(new AssertionsSpec<>(Rules.empty(), "", recordType)).rules());
     }
 }
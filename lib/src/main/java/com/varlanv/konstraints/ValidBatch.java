@@ -0,0 +1,28 @@
+package com.varlanv.konstraints;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of validating a list of subjects at once. Results are addressed by the index of the subject in the input
+ * list; only invalid subjects carry violations.
+ */
+public interface ValidBatch<SUBJECT> {
+
+    int size();
+
+    boolean isValid();
+
+    boolean isValid(int index);
+
+    int invalidCount();
+
+    BitSet validIndices();
+
+    Violations violations(int index);
+
+    Map<Integer, Violations> violationsByIndex();
+
+    List<SUBJECT> validSubjects();
+}
@@ -0,0 +1,25 @@
+package com.varlanv.konstraints;
+
+/**
+ * How a spec runs its rules, as selected by {@link ValidationSpec#compile(ValidationBackend)}. Every backend reports
+ * the same violations in the same order.
+ */
+public enum ValidationBackend {
+
+    /**
+     * Walks the rule tree as declared.
+     */
+    INTERPRETER,
+
+    /**
+     * Runs a flat execution plan, same as {@link ValidationSpec#compile()}.
+     */
+    PLAN,
+
+    /**
+     * Runs straight-line bytecode generated for the spec and loaded as a hidden class, so the JIT can inline the
+     * checks of the spec into a single method. Needs Java 15 or later; on older runtimes, and for specs too large for
+     * a single method, the spec falls back to {@link #PLAN}.
+     */
+    BYTECODE
+}
@@ -0,0 +1,29 @@
+package com.varlanv.konstraints;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+@Name("konstraints.Validation")
+@Label("Validation")
+@Category("konstraints")
+@Description("Validation of a single subject")
+@StackTrace(false)
+final class ValidationEvent extends jdk.jfr.Event {
+
+    @Label("Spec")
+    @Nullable String spec;
+
+    @Label("Subject Class")
+    @Nullable Class<?> subjectClass;
+
+    @Label("Valid")
+    boolean valid;
+
+    @Label("Violations")
+    @Description("Number of violations, or -1 when the spec was only asked for a pass/fail answer")
+    int violations;
+}
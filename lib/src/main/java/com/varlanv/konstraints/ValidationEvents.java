@@ -0,0 +1,82 @@
+package com.varlanv.konstraints;
+
+import jdk.jfr.EventType;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Emits {@code konstraints.Validation} and {@code konstraints.SlowRule} JDK Flight Recorder events. Event classes
+ * are only touched after checking that the runtime ships {@code jdk.jfr}, so images built without it still load
+ * the library, and both events cost a disabled check when no recording asks for them.
+ *
+ * <p>{@code konstraints.SlowRule} is disabled by default because it makes every validation run rule by rule; enable
+ * it in a recording and tune its {@code threshold} setting, 1 ms by default, to find the rules behind slow
+ * validations.
+ */
+final class ValidationEvents {
+
+    static final boolean AVAILABLE = available();
+
+    private ValidationEvents() {}
+
+    /**
+     * Returns a started validation event, or {@code null} when no recording wants it.
+     */
+    static @Nullable Object begin() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        var event = new ValidationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void commit(Object started, @Nullable String spec, Object subject, boolean valid, int violations) {
+        var event = (ValidationEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.spec = spec;
+            event.subjectClass = subject.getClass();
+            event.valid = valid;
+            event.violations = violations;
+            event.commit();
+        }
+    }
+
+    static boolean slowRuleEnabled() {
+        return AVAILABLE && SlowRules.TYPE.isEnabled();
+    }
+
+    static Object beginRule() {
+        var event = new SlowRuleEvent();
+        event.begin();
+        return event;
+    }
+
+    static void commitRule(Object started, @Nullable String spec, Rule<?> rule, boolean rejected) {
+        var event = (SlowRuleEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.spec = spec;
+            event.rule = rule.describe();
+            event.rejected = rejected;
+            event.commit();
+        }
+    }
+
+    private static boolean available() {
+        try {
+            Class.forName("jdk.jfr.Event", false, ValidationEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static final class SlowRules {
+
+        static final EventType TYPE = EventType.getEventType(SlowRuleEvent.class);
+    }
+}
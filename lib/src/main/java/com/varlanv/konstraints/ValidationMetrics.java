@@ -0,0 +1,29 @@
+package com.varlanv.konstraints;
+
+/**
+ * Receives measurements from specs configured with {@link ValidationSpec#withMetrics(String, ValidationMetrics)}.
+ * Callbacks run inline on the validating thread, so implementations must be thread safe and cheap. Use
+ * {@link #inMemory()} for lock-free aggregation that can be exported to any metrics backend.
+ */
+public interface ValidationMetrics {
+
+    /**
+     * Called once per validation of {@code spec}, with its wall time in nanoseconds.
+     */
+    void validated(String spec, long nanos, boolean valid);
+
+    /**
+     * Called for each violation reported by {@code spec}, after {@link #validated(String, long, boolean)}.
+     */
+    void rejected(String spec, Violation violation);
+
+    /**
+     * Called for each top-level rule of {@code spec} on a small sample of validations, with the time spent in that
+     * rule alone.
+     */
+    void ruleSampled(String spec, String rule, long nanos, boolean rejected);
+
+    static InMemoryValidationMetrics inMemory() {
+        return new InMemoryValidationMetrics();
+    }
+}
@@ -0,0 +1,354 @@
+package com.varlanv.konstraints;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Flat form of a rule tree. Field extraction and built-in checks are lowered to opcodes in a single {@code int[]},
+ * while extractors, pattern matchers, custom predicates and prebuilt violations live in a constants pool. A field
+ * opcode stores the end of its body, so a {@code null} value skips nested checks with a single jump, and the nested
+ * body is executed against the extracted value without allocating any per-rule objects.
+ *
+ * <p>{@link #test(Object)} walks the same code but only answers pass/fail, so it never touches {@link Violations}.
+ *
+ * <p>In fail-fast mode the loop returns right after the first violation is added, including from nested bodies.
+ *
+ * <p>{@link #executeBatch} runs the plan one top-level segment at a time across a whole batch of subjects, so the
+ * same opcodes and constants stay hot while the subjects stream through them.
+ *
+ * <p>Rules that are not known to the compiler are kept as opaque {@link #RULE} opcodes, so compiling never changes
+ * what a spec reports.
+ */
+final class ValidationPlan {
+
+    // [op, extractor, null violation or -1, end]
+    static final int FIELD = 0;
+    // [op, rule]
+    static final int RULE = 1;
+    // [op, predicate, violation]
+    static final int PREDICATE = 2;
+    // [op, violation]
+    static final int FAIL = 3;
+    // [op, violation]
+    static final int EMPTY = 4;
+    // [op, violation]
+    static final int NOT_EMPTY = 5;
+    // [op, violation]
+    static final int NOT_BLANK = 6;
+    // [op, min, max, violation]
+    static final int LENGTH = 7;
+    // [op, pattern matcher, violation]
+    static final int MATCHES = 8;
+    // [op, scanner], keeps the failure mask of a fused string scan for the SCANNED ops that follow it
+    static final int SCAN = 9;
+    // [op, scanner slot, violation]
+    static final int SCANNED = 10;
+
+    private final int[] code;
+    private final Object[] constants;
+    // start of each top-level rule, followed by the code length
+    private final int[] segments;
+
+    private ValidationPlan(int[] code, Object[] constants, int[] segments) {
+        this.code = code;
+        this.constants = constants;
+        this.segments = segments;
+    }
+
+    static <SUBJECT> ValidationPlan compile(List<Rule<SUBJECT>> rules) {
+        var compiler = new Compiler();
+        var segments = new int[rules.size() + 1];
+        for (var idx = 0; idx < rules.size(); idx++) {
+            segments[idx] = compiler.size;
+            compiler.rule(rules.get(idx));
+        }
+        segments[rules.size()] = compiler.size;
+        return new ValidationPlan(
+                Arrays.copyOf(compiler.code, compiler.size), compiler.constants.toArray(), segments);
+    }
+
+    Violations execute(Object subject, Violations violations, boolean failFast) {
+        return execute(subject, 0, code.length, violations, failFast);
+    }
+
+    void executeBatch(List<?> subjects, int from, int to, Violations[] accumulators) {
+        var segments = this.segments;
+        for (var segment = 0; segment < segments.length - 1; segment++) {
+            var start = segments[segment];
+            var end = segments[segment + 1];
+            for (var idx = from; idx < to; idx++) {
+                accumulators[idx] = execute(subjects.get(idx), start, end, accumulators[idx], false);
+            }
+        }
+    }
+
+    /**
+     * Runs the code of the top-level rule at {@code segment} alone, as used by adaptive ordering.
+     */
+    Violations executeSegment(Object subject, int segment, Violations violations, boolean failFast) {
+        return execute(subject, segments[segment], segments[segment + 1], violations, failFast);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Violations execute(Object value, int from, int to, Violations violations, boolean failFast) {
+        var code = this.code;
+        var constants = this.constants;
+        var result = violations;
+        var scanned = 0;
+        var pc = from;
+        while (pc < to) {
+            switch (code[pc]) {
+                case FIELD:
+                    var end = code[pc + 3];
+                    var target = ((Function<Object, Object>) constants[code[pc + 1]]).apply(value);
+                    if (target != null) {
+                        result = execute(target, pc + 4, end, result, failFast);
+                    } else if (code[pc + 2] >= 0) {
+                        result = result.add((Violation) constants[code[pc + 2]]);
+                    }
+                    pc = end;
+                    break;
+                case RULE:
+                    var rule = (Rule<Object>) constants[code[pc + 1]];
+                    result = failFast ? rule.applyFirst(value, result) : rule.apply(value, result);
+                    pc += 2;
+                    break;
+                case PREDICATE:
+                    if (!((Predicate<Object>) constants[code[pc + 1]]).test(value)) {
+                        result = result.add((Violation) constants[code[pc + 2]]);
+                    }
+                    pc += 3;
+                    break;
+                case FAIL:
+                    result = result.add((Violation) constants[code[pc + 1]]);
+                    pc += 2;
+                    break;
+                case EMPTY:
+                    if (((CharSequence) value).length() != 0) {
+                        result = result.add((Violation) constants[code[pc + 1]]);
+                    }
+                    pc += 2;
+                    break;
+                case NOT_EMPTY:
+                    if (((CharSequence) value).length() == 0) {
+                        result = result.add((Violation) constants[code[pc + 1]]);
+                    }
+                    pc += 2;
+                    break;
+                case NOT_BLANK:
+                    if (Internals.isBlank((CharSequence) value)) {
+                        result = result.add((Violation) constants[code[pc + 1]]);
+                    }
+                    pc += 2;
+                    break;
+                case LENGTH:
+                    var length = ((CharSequence) value).length();
+                    if (length < code[pc + 1] || length > code[pc + 2]) {
+                        result = result.add((Violation) constants[code[pc + 3]]);
+                    }
+                    pc += 4;
+                    break;
+                case MATCHES:
+                    if (!((PatternMatcher) constants[code[pc + 1]]).matches((CharSequence) value)) {
+                        result = result.add((Violation) constants[code[pc + 2]]);
+                    }
+                    pc += 3;
+                    break;
+                case SCAN:
+                    scanned = ((StringScanner) constants[code[pc + 1]]).scan((CharSequence) value);
+                    pc += 2;
+                    break;
+                case SCANNED:
+                    if ((scanned & (1 << code[pc + 1])) != 0) {
+                        result = result.add((Violation) constants[code[pc + 2]]);
+                    }
+                    pc += 3;
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown opcode [" + code[pc] + "] at [" + pc + "]");
+            }
+            if (failFast && !result.isEmpty()) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    boolean test(Object subject) {
+        return test(subject, 0, code.length);
+    }
+
+    boolean testSegment(Object subject, int segment) {
+        return test(subject, segments[segment], segments[segment + 1]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean test(Object value, int from, int to) {
+        var code = this.code;
+        var constants = this.constants;
+        var pc = from;
+        while (pc < to) {
+            switch (code[pc]) {
+                case FIELD:
+                    var end = code[pc + 3];
+                    var target = ((Function<Object, Object>) constants[code[pc + 1]]).apply(value);
+                    if (target != null) {
+                        if (!test(target, pc + 4, end)) {
+                            return false;
+                        }
+                    } else if (code[pc + 2] >= 0) {
+                        return false;
+                    }
+                    pc = end;
+                    break;
+                case RULE:
+                    if (!((Rule<Object>) constants[code[pc + 1]]).test(value)) {
+                        return false;
+                    }
+                    pc += 2;
+                    break;
+                case PREDICATE:
+                    if (!((Predicate<Object>) constants[code[pc + 1]]).test(value)) {
+                        return false;
+                    }
+                    pc += 3;
+                    break;
+                case FAIL:
+                    return false;
+                case EMPTY:
+                    if (((CharSequence) value).length() != 0) {
+                        return false;
+                    }
+                    pc += 2;
+                    break;
+                case NOT_EMPTY:
+                    if (((CharSequence) value).length() == 0) {
+                        return false;
+                    }
+                    pc += 2;
+                    break;
+                case NOT_BLANK:
+                    if (Internals.isBlank((CharSequence) value)) {
+                        return false;
+                    }
+                    pc += 2;
+                    break;
+                case LENGTH:
+                    var length = ((CharSequence) value).length();
+                    if (length < code[pc + 1] || length > code[pc + 2]) {
+                        return false;
+                    }
+                    pc += 4;
+                    break;
+                case MATCHES:
+                    if (!((PatternMatcher) constants[code[pc + 1]]).matches((CharSequence) value)) {
+                        return false;
+                    }
+                    pc += 3;
+                    break;
+                case SCAN:
+                    if (((StringScanner) constants[code[pc + 1]]).scan((CharSequence) value) != 0) {
+                        return false;
+                    }
+                    pc += 2;
+                    break;
+                case SCANNED:
+                    pc += 3;
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown opcode [" + code[pc] + "] at [" + pc + "]");
+            }
+        }
+        return true;
+    }
+
+    private static final class Compiler {
+
+        private final List<Object> constants = new ArrayList<>();
+        private int[] code = new int[32];
+        private int size;
+
+        <SUBJECT> void rules(List<Rule<SUBJECT>> rules) {
+            for (var rule : rules) {
+                rule(rule);
+            }
+        }
+
+        private <SUBJECT> void rule(Rule<SUBJECT> rule) {
+            if (rule instanceof FieldRule) {
+                var fieldRule = (FieldRule<SUBJECT, ?>) rule;
+                var nullViolation = fieldRule.nullViolation;
+                emit(FIELD, constant(fieldRule.extractor), nullViolation == null ? -1 : constant(nullViolation), 0);
+                var endOperand = size - 1;
+                rules(fieldRule.rules.list());
+                code[endOperand] = size;
+            } else if (rule instanceof TargetCheck) {
+                check((TargetCheck<SUBJECT>) rule);
+            } else if (rule instanceof FusedStringRule) {
+                fused((FusedStringRule<?>) rule);
+            } else {
+                emit(RULE, constant(rule));
+            }
+        }
+
+        private void check(TargetCheck<?> check) {
+            var violation = check.violation;
+            switch (check.kind) {
+                case TargetCheck.PREDICATE:
+                    emit(PREDICATE, constant(check.argument), constant(violation));
+                    break;
+                case TargetCheck.FAIL:
+                    emit(FAIL, constant(violation));
+                    break;
+                case TargetCheck.EMPTY:
+                    emit(EMPTY, constant(violation));
+                    break;
+                case TargetCheck.NOT_EMPTY:
+                    emit(NOT_EMPTY, constant(violation));
+                    break;
+                case TargetCheck.NOT_BLANK:
+                    emit(NOT_BLANK, constant(violation));
+                    break;
+                case TargetCheck.LENGTH:
+                    emit(LENGTH, check.min, check.max, constant(violation));
+                    break;
+                case TargetCheck.MATCHES:
+                    emit(MATCHES, constant(check.argument), constant(violation));
+                    break;
+                default:
+                    emit(RULE, constant(check));
+            }
+        }
+
+        private void fused(FusedStringRule<?> rule) {
+            emit(SCAN, constant(rule.scanner));
+            for (var idx = 0; idx < rule.slots.length; idx++) {
+                if (rule.slots[idx] < 0) {
+                    rule(rule.rules.get(idx));
+                } else {
+                    emit(SCANNED, rule.slots[idx], constant(rule.violation(idx)));
+                }
+            }
+        }
+
+        private int constant(@Nullable Object constant) {
+            if (constant == null) {
+                throw new IllegalStateException("Plan constants must not be null");
+            }
+            constants.add(constant);
+            return constants.size() - 1;
+        }
+
+        private void emit(int... operands) {
+            if (size + operands.length > code.length) {
+                code = Arrays.copyOf(code, Math.max(code.length * 2, size + operands.length));
+            }
+            System.arraycopy(operands, 0, code, size, operands.length);
+            size += operands.length;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.varlanv.konstraints;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link Flow.Processor} that validates items in micro-batches of up to {@code batchSize} with
+ * {@link ValidationSpec#validateBatch(java.util.List)} and emits one {@link Valid} per item, in upstream order, to a
+ * single subscriber.
+ *
+ * <p>Upstream is only asked for as many items as the subscriber has requested and not yet received, minus the items
+ * already held by the processor, and never for more than {@code maxInFlight * batchSize} items at once. A batch is
+ * validated when it is full or when every requested item has arrived, so a small demand is never stuck waiting for a
+ * full batch. Nothing blocks: upstream and worker signals only enqueue, and a single drain loop, run by whichever
+ * thread signals, moves items through the stages.
+ *
+ * <p>With a worker executor, up to {@code maxInFlight} batches are validated on workers at once. Results are emitted
+ * in submission order, so output order never depends on which worker finishes first.
+ *
+ * <p>Nothing is requested from upstream before a subscriber attaches, so no items are lost; a terminal upstream
+ * signal received before that is replayed to the subscriber. When upstream completes or fails, the items already
+ * received are validated and emitted as demand allows before the terminal signal.
+ */
+final class ValidationProcessor<SUBJECT> implements Flow.Processor<SUBJECT, Valid<SUBJECT>> {
+
+    private final ValidationSpec<SUBJECT> spec;
+    private final int batchSize;
+    private final @Nullable Executor workers;
+    private final int maxInFlight;
+    private final long capacity;
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final ConcurrentLinkedQueue<SUBJECT> arrivals = new ConcurrentLinkedQueue<>();
+    private volatile Flow.@Nullable Subscription upstream;
+    private volatile Flow.@Nullable Subscriber<? super Valid<SUBJECT>> downstream;
+    private volatile boolean upstreamDone;
+    private volatile @Nullable Throwable upstreamError;
+    private volatile @Nullable Throwable failure;
+    private volatile boolean cancelled;
+    // fields below are only touched by the drain loop
+    private final ArrayDeque<CompletableFuture<List<Valid<SUBJECT>>>> batches = new ArrayDeque<>();
+    // index of the next result to emit from the head batch
+    private int cursor;
+    // items requested from upstream that have not arrived yet
+    private long outstanding;
+    // items dispatched in batches and not emitted yet
+    private long queued;
+    private List<SUBJECT> buffer;
+    private boolean done;
+
+    ValidationProcessor(ValidationSpec<SUBJECT> spec, int batchSize, @Nullable Executor workers, int maxInFlight) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+        this.spec = spec;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.maxInFlight = maxInFlight;
+        this.capacity = (long) maxInFlight * batchSize;
+        this.buffer = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Valid<SUBJECT>> subscriber) {
+        Objects.requireNonNull(subscriber, "nulls are not supported");
+        if (subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription());
+            downstream = subscriber;
+            drain();
+            return;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+
+            @Override
+            public void request(long n) {}
+
+            @Override
+            public void cancel() {}
+        });
+        subscriber.onError(new IllegalStateException("only one subscriber is supported"));
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (upstream != null || cancelled) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        drain();
+    }
+
+    @Override
+    public void onNext(SUBJECT item) {
+        Objects.requireNonNull(item, "nulls are not supported");
+        arrivals.offer(item);
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        upstreamError = throwable;
+        upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamDone = true;
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        var missed = 1;
+        do {
+            var subscriber = downstream;
+            if (subscriber != null && !done) {
+                drainOnce(subscriber);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drainOnce(Flow.Subscriber<? super Valid<SUBJECT>> subscriber) {
+        if (cancelled) {
+            terminate();
+            return;
+        }
+        var error = failure;
+        if (error != null) {
+            fail(subscriber, error);
+            return;
+        }
+        for (var item = arrivals.poll(); item != null; item = arrivals.poll()) {
+            buffer.add(item);
+            outstanding = Math.max(0, outstanding - 1);
+        }
+        dispatch();
+        if (!emit(subscriber)) {
+            return;
+        }
+        if (upstreamDone && buffer.isEmpty() && batches.isEmpty() && arrivals.isEmpty()) {
+            var upstreamError = this.upstreamError;
+            terminate();
+            if (upstreamError != null) {
+                subscriber.onError(upstreamError);
+            } else {
+                subscriber.onComplete();
+            }
+            return;
+        }
+        requestUpstream();
+    }
+
+    private void dispatch() {
+        while (!buffer.isEmpty()
+                && batches.size() < maxInFlight
+                && (buffer.size() >= batchSize || outstanding == 0 || upstreamDone)) {
+            List<SUBJECT> batch;
+            if (buffer.size() <= batchSize) {
+                batch = buffer;
+                buffer = new ArrayList<>(batchSize);
+            } else {
+                var head = buffer.subList(0, batchSize);
+                batch = new ArrayList<>(head);
+                head.clear();
+            }
+            queued += batch.size();
+            batches.add(validate(batch));
+        }
+    }
+
+    private CompletableFuture<List<Valid<SUBJECT>>> validate(List<SUBJECT> batch) {
+        var executor = workers;
+        if (executor == null) {
+            try {
+                return CompletableFuture.completedFuture(validateNow(batch));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        CompletableFuture<List<Valid<SUBJECT>>> results;
+        try {
+            results = CompletableFuture.supplyAsync(() -> validateNow(batch), executor);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        results.whenComplete((ignored, error) -> drain());
+        return results;
+    }
+
+    private List<Valid<SUBJECT>> validateNow(List<SUBJECT> batch) {
+        var result = spec.validateBatch(batch);
+        var valids = new ArrayList<Valid<SUBJECT>>(batch.size());
+        for (var idx = 0; idx < batch.size(); idx++) {
+            valids.add(
+                    result.isValid(idx) ? Valid.valid(batch.get(idx)) : Valid.invalid(result.violations(idx)));
+        }
+        return valids;
+    }
+
+    /**
+     * Emits completed results in order while there is demand. Returns {@code false} if the processor terminated.
+     */
+    private boolean emit(Flow.Subscriber<? super Valid<SUBJECT>> subscriber) {
+        var requested = demand.get();
+        var emitted = 0L;
+        while (emitted < requested && !cancelled) {
+            var head = batches.peek();
+            if (head == null || !head.isDone()) {
+                break;
+            }
+            List<Valid<SUBJECT>> results;
+            try {
+                results = head.join();
+            } catch (CompletionException e) {
+                fail(subscriber, e.getCause() != null ? e.getCause() : e);
+                return false;
+            } catch (RuntimeException e) {
+                fail(subscriber, e);
+                return false;
+            }
+            var result = results.get(cursor++);
+            if (cursor == results.size()) {
+                batches.poll();
+                cursor = 0;
+            }
+            queued--;
+            emitted++;
+            subscriber.onNext(result);
+            if (emitted == requested && requested != Long.MAX_VALUE) {
+                requested = demand.addAndGet(-emitted);
+                emitted = 0;
+            }
+        }
+        if (emitted != 0 && requested != Long.MAX_VALUE) {
+            demand.addAndGet(-emitted);
+        }
+        if (cancelled) {
+            terminate();
+            return false;
+        }
+        return true;
+    }
+
+    private void requestUpstream() {
+        var subscription = upstream;
+        if (subscription == null || upstreamDone) {
+            return;
+        }
+        var held = outstanding + buffer.size() + queued;
+        var wanted = Math.min(demand.get(), capacity) - held;
+        if (wanted > 0) {
+            outstanding += wanted;
+            subscription.request(wanted);
+        }
+    }
+
+    private void fail(Flow.Subscriber<? super Valid<SUBJECT>> subscriber, Throwable error) {
+        cancelUpstream();
+        terminate();
+        subscriber.onError(error);
+    }
+
+    private void terminate() {
+        done = true;
+        cancelUpstream();
+        buffer = new ArrayList<>(0);
+        batches.clear();
+        arrivals.clear();
+    }
+
+    private void cancelUpstream() {
+        var subscription = upstream;
+        if (subscription != null && !upstreamDone) {
+            subscription.cancel();
+        }
+    }
+
+    private final class Subscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                failure = new IllegalArgumentException("requested items must be positive, got " + n);
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+    }
+}
@@ -1,8 +1,19 @@
 package com.varlanv.konstraints;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 
 public interface ValidationSpec<SUBJECT> {
 
@@ -13,4 +24,220 @@ public interface ValidationSpec<SUBJECT> {
     UnaryOperator<SUBJECT> toThrowingOperator(Supplier<? extends Throwable> onException);
 
     Valid<SUBJECT> validate(SUBJECT t);
+
+    /**
+     * Returns a spec with the same rules lowered to a flat execution plan. The compiled spec reports exactly the same
+     * violations, in the same order, as this one. Specs that have no plan to lower return themselves.
+     */
+    default ValidationSpec<SUBJECT> compile() {
+        return this;
+    }
+
+    /**
+     * Returns a spec with the same rules run by the given backend. {@link ValidationBackend#INTERPRETER} returns this
+     * spec as is. Specs that know only one way to run their rules return {@link #compile()} for the other backends.
+     */
+    default ValidationSpec<SUBJECT> compile(ValidationBackend backend) {
+        Objects.requireNonNull(backend, "nulls are not supported");
+        return backend == ValidationBackend.INTERPRETER ? this : compile();
+    }
+
+    /**
+     * Returns a spec whose {@link #validate(Object)} collects violations into a buffer owned by the calling thread and
+     * reused across validations. Violations are copied out only for invalid subjects, so validating valid subjects
+     * allocates no accumulator. Specs that have nothing to reuse return themselves.
+     */
+    default ValidationSpec<SUBJECT> withScratchBuffer() {
+        return this;
+    }
+
+    /**
+     * Answers whether the subject is valid without materializing violations. Specs built with
+     * {@link Valid#validationSpec(AssertionsOperator)} do not allocate on this path unless a custom check does.
+     */
+    default boolean test(SUBJECT t) {
+        return validate(t).isValid();
+    }
+
+    default Predicate<SUBJECT> asPredicate() {
+        return this::test;
+    }
+
+    /**
+     * Validates the subject, but stops at the first violation. An invalid result holds exactly one violation, the
+     * same one that {@link #validate(Object)} would report first.
+     */
+    default Valid<SUBJECT> validateFirst(SUBJECT t) {
+        var valid = validate(t);
+        if (valid.isValid()) {
+            return valid;
+        }
+        return Valid.invalid(Violations.of(valid.violations().list().get(0)));
+    }
+
+    /**
+     * Validates every subject of the list. The result addresses subjects by their index in {@code subjects} and keeps
+     * violations only for the invalid ones.
+     *
+     * <p>Specs built with {@link Valid#validationSpec(AssertionsOperator)} run each rule over the whole batch before
+     * moving on to the next rule.
+     */
+    default ValidBatch<SUBJECT> validateBatch(List<SUBJECT> subjects) {
+        var accumulators = new Violations[subjects.size()];
+        var idx = 0;
+        for (var subject : subjects) {
+            accumulators[idx++] = validate(subject).violations();
+        }
+        return ArrayValidBatch.of(new ArrayList<>(subjects), accumulators);
+    }
+
+    /**
+     * Same as {@link #validateBatch(List)}, but splits the list into chunks validated on {@code pool}. The result is
+     * ordered by input index and equal to what {@link #validateBatch(List)} returns. Specs are immutable, so a single
+     * instance may be shared by all workers.
+     */
+    default ValidBatch<SUBJECT> validateParallel(List<SUBJECT> subjects, ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "nulls are not supported");
+        var items = List.copyOf(subjects);
+        var accumulators = new Violations[items.size()];
+        BatchTask.invoke(pool, items.size(), (from, to) -> {
+            for (var idx = from; idx < to; idx++) {
+                accumulators[idx] = validate(items.get(idx)).violations();
+            }
+        });
+        return ArrayValidBatch.of(items, accumulators);
+    }
+
+    /**
+     * Validates the subject without blocking the caller on async checks. Async checks of the subject start right
+     * away and run side by side on virtual threads where the runtime has them, so the result is ready after the
+     * slowest check rather than after all of them in turn. Violations keep the order of {@link #validate(Object)}.
+     */
+    default CompletableFuture<Valid<SUBJECT>> validateAsync(SUBJECT t) {
+        return validateAsync(t, AsyncExecutors.defaultExecutor());
+    }
+
+    /**
+     * Same as {@link #validateAsync(Object)}, but runs async checks on the given executor.
+     */
+    default CompletableFuture<Valid<SUBJECT>> validateAsync(SUBJECT t, Executor executor) {
+        Objects.requireNonNull(executor, "nulls are not supported");
+        return CompletableFuture.supplyAsync(() -> validate(t), executor);
+    }
+
+    /**
+     * Returns a processor that validates upstream items in micro-batches of {@code batchSize} and emits one
+     * {@link Valid} per item, in upstream order. Upstream is asked only for items the subscriber has requested, so slow
+     * subscribers throttle it without blocking any thread. Each call returns a new processor, which supports a single
+     * upstream and a single subscriber.
+     */
+    default Flow.Processor<SUBJECT, Valid<SUBJECT>> toProcessor(int batchSize) {
+        return new ValidationProcessor<>(this, batchSize, null, 1);
+    }
+
+    /**
+     * Same as {@link #toProcessor(int)}, but validates batches on {@code workers}, with at most {@code maxInFlight}
+     * batches outstanding. Upstream is never asked for more than {@code maxInFlight * batchSize} items ahead of the
+     * subscriber. Output order is still the upstream order.
+     */
+    default Flow.Processor<SUBJECT, Valid<SUBJECT>> toProcessor(int batchSize, Executor workers, int maxInFlight) {
+        Objects.requireNonNull(workers, "nulls are not supported");
+        return new ValidationProcessor<>(this, batchSize, workers, maxInFlight);
+    }
+
+    /**
+     * Returns a collector that validates each element once and splits the stream into valid subjects and violations
+     * keyed by encounter index. Only valid subjects and violations of invalid ones are retained. Works with parallel
+     * streams; indices still follow encounter order.
+     */
+    default Collector<SUBJECT, ?, ValidBatch<SUBJECT>> collector() {
+        return BatchCollector.collector(subject -> validate(subject).violations());
+    }
+
+    /**
+     * Returns a predicate for {@link java.util.stream.Stream#filter} that keeps valid subjects and hands invalid ones
+     * with their violations to {@code invalidSink} instead. Elements are validated lazily, one at a time, as the
+     * stream pulls them, so nothing is buffered. On a parallel stream the sink is called from several threads.
+     */
+    default Predicate<SUBJECT> divertInvalid(BiConsumer<? super SUBJECT, ? super Violations> invalidSink) {
+        Objects.requireNonNull(invalidSink, "nulls are not supported");
+        return subject -> {
+            var valid = validate(subject);
+            if (valid.isValid()) {
+                return true;
+            }
+            invalidSink.accept(subject, valid.violations());
+            return false;
+        };
+    }
+
+    /**
+     * Returns a spec that carries {@code name} in the {@code konstraints.Validation} and {@code konstraints.SlowRule}
+     * JDK Flight Recorder events it emits. Specs that emit no events return themselves.
+     */
+    default ValidationSpec<SUBJECT> named(String name) {
+        return this;
+    }
+
+    /**
+     * Returns a spec that reports to {@code metrics} under {@code name}: invocation count, wall time and violations
+     * per field of every {@link #validate(Object)}, {@link #validateFirst(Object)} and {@link #test(Object)}, plus,
+     * for specs built with {@link Valid#validationSpec(AssertionsOperator)}, the time spent in each top-level rule on a
+     * small sample of validations. Batch, parallel, async and collector
+     * validation are not reported. Specs without this call pay nothing for metrics.
+     */
+    default ValidationSpec<SUBJECT> withMetrics(String name, ValidationMetrics metrics) {
+        Objects.requireNonNull(name, "nulls are not supported");
+        Objects.requireNonNull(metrics, "nulls are not supported");
+        return new MeteredValidationSpec<>(this, name, metrics);
+    }
+
+    /**
+     * Returns a spec that learns in which order to run its top-level rules. A small sample of validations is timed
+     * rule by rule, and every so often the rules are re-ordered so that cheap rules that reject often run first.
+     * Only {@link #test(Object)} and {@link #validateFirst(Object)} follow the learned order; every other method
+     * reports the same violations, in the same order, as this spec. In adaptive mode {@link #validateFirst(Object)}
+     * returns one of the violations of the subject, not necessarily the first declared one. Specs that have nothing
+     * to re-order return themselves.
+     */
+    default ValidationSpec<SUBJECT> adaptive() {
+        return this;
+    }
+
+    /**
+     * Describes how this spec runs its rules: in which order and, for {@link #adaptive()} specs, with sampled average
+     * cost and failure rate of each rule. The format is meant for humans and may change.
+     */
+    default String describePlan() {
+        return getClass().getSimpleName() + ", opaque plan";
+    }
+
+    /**
+     * Validates a subject that differs from an already validated one only in {@code changedFields}. Rules of fields
+     * that did not change are not run; their violations are carried over from {@code previous}, which must be the
+     * result of validating the earlier version of the subject with this spec. Paths match as prefixes, so changing
+     * {@code "address"} re-runs {@code "address.street"} and vice versa, and {@code "lines"} covers
+     * {@code "lines[0].sku"}. Rules not attached to a field always run again, and so does every rule when
+     * {@code previous} holds a violation that no field rule owns. When a field is declared in several rules and one of
+     * them reported a violation, all of them run again. The result equals {@code validate(subject)} when no other
+     * field changed.
+     */
+    default Valid<SUBJECT> revalidate(Valid<SUBJECT> previous, SUBJECT subject, Set<String> changedFields) {
+        Objects.requireNonNull(previous, "nulls are not supported");
+        Objects.requireNonNull(changedFields, "nulls are not supported");
+        return validate(subject);
+    }
+
+    /**
+     * Returns a spec that remembers the verdict for up to {@link CacheConfig#maximumSize()} subjects, so validating
+     * a subject again costs a hash lookup instead of running the rules. Subjects are keyed by
+     * {@code equals}/{@code hashCode} unless {@link CacheConfig#withIdentityKeys()} is set, so they must be immutable,
+     * and rules must not depend on anything but the subject. Cached verdicts are shared by every method of the
+     * returned spec, including {@link #test(Object)} and {@link #validateBatch(List)}; each call to this method
+     * starts with an empty cache.
+     */
+    default CachedValidationSpec<SUBJECT> cached(CacheConfig config) {
+        Objects.requireNonNull(config, "nulls are not supported");
+        return new MemoizingValidationSpec<>(this, config);
+    }
 }
@@ -33,7 +33,7 @@ public interface Violation {
                 if (this == obj) {
                     return true;
                 }
-                if (obj == null || getClass() != obj.getClass()) {
+                if (!(obj instanceof Violation)) {
                     return false;
                 }
                 var that = (Violation) obj;
@@ -8,6 +8,18 @@ public interface Violations {
 
     Violations add(Violation violation);
 
+    /**
+     * Returns violations holding these followed by {@code other}. Immutable violations are joined without copying
+     * either side.
+     */
+    default Violations merge(Violations other) {
+        var merged = this;
+        for (var violation : other.list()) {
+            merged = merged.add(violation);
+        }
+        return merged;
+    }
+
     boolean isEmpty();
 
     static Violations of(List<Violation> violations) {
@@ -0,0 +1,21 @@
+package com.varlanv.konstraints.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Same as {@code StringAssertions.length}, {@code minLength}, {@code maxLength} or {@code lengthRange}, depending on
+ * which bounds are set.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Length {
+
+    int min() default 0;
+
+    int max() default Integer.MAX_VALUE;
+}
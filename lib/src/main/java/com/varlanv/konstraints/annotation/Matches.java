@@ -0,0 +1,18 @@
+package com.varlanv.konstraints.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Same as {@code StringAssertions.matches(Pattern)}. The value must match the whole regular expression.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Matches {
+
+    String value();
+}
@@ -0,0 +1,19 @@
+package com.varlanv.konstraints.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Same as {@code gte(value)} on an integral field: {@code byte}, {@code short}, {@code int}, {@code long} or their
+ * boxed types.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Min {
+
+    long value();
+}
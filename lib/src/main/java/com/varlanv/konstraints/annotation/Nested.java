@@ -0,0 +1,16 @@
+package com.varlanv.konstraints.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates the value with the spec generated for its type, which must be {@link Validated} as well. Violations of
+ * the value are reported under {@code <field>.<nested field>}.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Nested {}
@@ -0,0 +1,8 @@
+/**
+ * Constraint annotations read at compile time by the {@code konstraints-processor} module, which generates a plain
+ * {@link com.varlanv.konstraints.ValidationSpec} for every {@link com.varlanv.konstraints.annotation.Validated} type.
+ */
+@NullMarked
+package com.varlanv.konstraints.annotation;
+
+import org.jspecify.annotations.NullMarked;
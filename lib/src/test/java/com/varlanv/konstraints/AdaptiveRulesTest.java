@@ -0,0 +1,70 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRulesTest implements FastTest {
+
+    record Account(String name, int age) {}
+
+    private final ValidationSpec<Account> spec = Valid.validationSpec(account -> account.field("name")
+            .nonNull()
+            .string(Account::name, name -> name.check("must be stable", AdaptiveRulesTest::expensive))
+            .field("age")
+            .intField(Account::age, age -> age.gt(0)));
+
+    private final Account invalid = new Account("x".repeat(200), 0);
+
+    @Test
+    void adaptive__when_cheap_rule_rejects_often__then_moves_it_first() {
+        for (var candidate : List.of(spec.adaptive(), spec.compile().adaptive())) {
+            var calls = AdaptiveRules.SAMPLE_RATE * AdaptiveRules.REORDER_INTERVAL * 4;
+            for (var idx = 0; idx < calls; idx++) {
+                assertFalse(candidate.test(invalid));
+            }
+
+            var plan = candidate.describePlan();
+            assertTrue(plan.contains("1. field 'age'"), plan);
+            assertTrue(plan.contains("2. field 'name'"), plan);
+            assertEquals(
+                    List.of(Violation.of("age", "must be greater than 0")),
+                    candidate.validateFirst(invalid).violations().list());
+        }
+    }
+
+    @Test
+    void adaptive__then_full_validation_keeps_declaration_order() {
+        var subject = new Account("", -1);
+        var expected =
+                List.of(Violation.of("name", "must be stable"), Violation.of("age", "must be greater than 0"));
+        var adaptive = spec.adaptive();
+        for (var idx = 0; idx < AdaptiveRules.SAMPLE_RATE * AdaptiveRules.REORDER_INTERVAL * 2; idx++) {
+            adaptive.test(invalid);
+        }
+
+        assertEquals(expected, adaptive.validate(subject).violations().list());
+        assertEquals(expected, adaptive.compile().validate(subject).violations().list());
+        assertEquals(expected, adaptive.validateBatch(List.of(subject)).violations(0).list());
+    }
+
+    @Test
+    void describePlan__when_not_adaptive__then_lists_rules_in_declaration_order() {
+        var plan = spec.compile().describePlan();
+
+        assertTrue(plan.startsWith("compiled, declaration order"), plan);
+        assertTrue(plan.indexOf("field 'name'") < plan.indexOf("field 'age'"), plan);
+    }
+
+    private static boolean expensive(String name) {
+        var hash = 0;
+        for (var round = 0; round < 4; round++) {
+            hash += name.hashCode() ^ name.repeat(2).indexOf('y');
+        }
+        return hash != 0 && !name.isEmpty();
+    }
+}
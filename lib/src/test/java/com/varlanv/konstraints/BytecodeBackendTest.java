@@ -0,0 +1,101 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class BytecodeBackendTest implements FastTest {
+
+    record Address(String city, String zip) {}
+
+    record Account(
+            String login, String email, String note, Address address, long balance, double rate, List<String> tags) {}
+
+    private final ValidationSpec<Account> spec = Valid.validationSpec(account -> account.field("login")
+            .nonNull()
+            .string(Account::login, login -> login.notBlank().asciiOnly().lengthRange(3, 8).check(
+                    "must be lowercase", value -> value.toLowerCase().equals(value)))
+            .field("email")
+            .nullable()
+            .string(Account::email, email -> email.notEmpty().matches(Pattern.compile("[a-z]+@[a-z]+")))
+            .field("note")
+            .nullable()
+            .string(Account::note, note -> note.noControlChars().length(4))
+            .field("address")
+            .nonNull()
+            .nested(Account::address, address -> address.field("city")
+                    .nonNull()
+                    .string(Address::city, city -> city.notBlank())
+                    .field("zip")
+                    .nullable()
+                    .string(Address::zip, zip -> zip.matches(Pattern.compile("[0-9]{5}"))))
+            .field("balance")
+            .longField(Account::balance, balance -> balance.gte(0).lte(1_000_000).check("even", v -> v % 2 == 0))
+            .field("rate")
+            .doubleField(Account::rate, rate -> rate.inRange(0.0, 1.0))
+            .field("tags")
+            .nonNull()
+            .items(Account::tags, tags -> tags.maxSize(2).eachItem(tag -> tag.field("value")
+                    .nonNull()
+                    .string(value -> value, value -> value.notBlank()))));
+
+    private final List<Account> subjects = List.of(
+            new Account("alice", "a@b", "memo", new Address("Kyiv", "01001"), 10, 0.5, List.of("x")),
+            new Account("ALICE", "nope", "me\tmo", new Address(" ", "1"), -1, Double.NaN, List.of("x", " ", "y")),
+            new Account(null, null, null, null, 3, 1.5, null),
+            new Account(" ", "", "x", new Address(null, null), 2_000_000, -0.1, Arrays.asList("a", null)),
+            new Account("\u00e9l\u00e8ve", "a@b", null, new Address("Lviv", null), 0, 1.0, List.of()));
+
+    @Test
+    void bytecode__then_same_violations_as_interpreter() {
+        var bytecode = spec.compile(ValidationBackend.BYTECODE);
+
+        assertTrue(bytecode.describePlan().startsWith("bytecode"));
+        for (var subject : subjects) {
+            assertEquals(spec.validate(subject).violations().list(), bytecode.validate(subject).violations().list());
+            assertEquals(spec.test(subject), bytecode.test(subject));
+            assertEquals(
+                    spec.validateFirst(subject).violations().list(),
+                    bytecode.validateFirst(subject).violations().list());
+        }
+        assertTrue(bytecode.test(subjects.get(0)));
+        var expected = spec.validateBatch(subjects);
+        var batch = bytecode.withScratchBuffer().validateBatch(subjects);
+        assertEquals(expected.validIndices(), batch.validIndices());
+        for (var idx = 0; idx < subjects.size(); idx++) {
+            assertEquals(expected.violations(idx).list(), batch.violations(idx).list());
+        }
+    }
+
+    @Test
+    void bytecode__when_checks_use_custom_predicates__then_runs_them_in_declaration_order() {
+        var custom = Valid.<Account>validationSpec(account -> account.field("rate")
+                        .doubleField(Account::rate, rate -> rate.check("must be positive", r -> r > 0))
+                        .field("balance")
+                        .longField(Account::balance, balance -> balance.check("must be odd", b -> b % 2 != 0))
+                        .field("login")
+                        .nullable()
+                        .string(Account::login, login -> login.check("must not be admin", l -> !l.equals("admin"))))
+                .compile(ValidationBackend.BYTECODE);
+        var subject = new Account("admin", null, null, null, 2, -1.0, null);
+
+        assertEquals(
+                List.of("must be positive", "must be odd", "must not be admin"),
+                custom.validate(subject).violations().list().stream()
+                        .map(Violation::message)
+                        .toList());
+        assertTrue(custom.test(new Account("root", null, null, null, 3, 0.5, null)));
+    }
+
+    @Test
+    void compile__when_interpreter__then_returns_same_spec() {
+        assertSame(spec, spec.compile(ValidationBackend.INTERPRETER));
+        assertTrue(spec.compile(ValidationBackend.PLAN).describePlan().startsWith("compiled"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CachedValidationSpecTest implements FastTest {
+
+    record Currency(String code) {}
+
+    private final AtomicInteger checks = new AtomicInteger();
+
+    private final ValidationSpec<Currency> spec = Valid.validationSpec(currency -> currency.field("code")
+            .nonNull()
+            .string(Currency::code, code -> code.length(3).check("must be known", value -> {
+                checks.incrementAndGet();
+                return !value.equals("XXX");
+            })));
+
+    @Test
+    void cached__when_equal_subject__then_rules_run_once_and_current_subject_returned() {
+        var cached = spec.cached(CacheConfig.maximumSize(16));
+        var first = new Currency("EUR");
+        var second = new Currency("EUR");
+
+        assertSame(first, cached.validate(first).optional().orElseThrow());
+        assertSame(second, cached.validate(second).optional().orElseThrow());
+        assertTrue(cached.test(new Currency("EUR")));
+        assertFalse(cached.test(new Currency("XXX")));
+        assertEquals(
+                List.of(Violation.of("code", "must be known")),
+                cached.validate(new Currency("XXX")).violations().list());
+
+        assertEquals(2, checks.get());
+        var stats = cached.stats();
+        assertEquals(3, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(2, stats.size());
+    }
+
+    @Test
+    void cached__when_identity_keys__then_equal_subjects_are_validated_again() {
+        var cached = spec.cached(CacheConfig.maximumSize(16).withIdentityKeys());
+        var subject = new Currency("USD");
+
+        cached.test(subject);
+        cached.test(subject);
+        cached.test(new Currency("USD"));
+
+        assertEquals(2, checks.get());
+        assertEquals(1, cached.stats().hits());
+    }
+
+    @Test
+    void cached__when_full__then_evicts_and_stays_bounded() {
+        var cached = spec.compile().cached(CacheConfig.maximumSize(8));
+        var hot = new Currency("GBP");
+        for (var idx = 0; idx < 1_000; idx++) {
+            assertTrue(cached.test(hot));
+            assertTrue(cached.test(new Currency(String.format("%03d", idx))));
+        }
+
+        var stats = cached.stats();
+        assertEquals(8, stats.size());
+        assertEquals(1_000 + 1 - 8, stats.evictions());
+        // the hot subject is referenced between sweeps, so CLOCK keeps it
+        assertEquals(999, stats.hits());
+
+        cached.invalidateAll();
+        assertEquals(0, cached.stats().size());
+    }
+
+    @Test
+    void maximumSize__when_not_positive__then_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> CacheConfig.maximumSize(0));
+    }
+}
@@ -0,0 +1,79 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class DecimalAssertionsTest implements FastTest {
+
+    record Payment(BigDecimal amount, BigInteger reference) {}
+
+    private static final BigDecimal MIN = new BigDecimal("-12.50");
+    private static final BigDecimal MAX = new BigDecimal("1E+3");
+
+    private final ValidationSpec<Payment> spec = Valid.validationSpec(payment -> payment.field("amount")
+            .nonNull()
+            .decimal(Payment::amount, amount -> amount.maxPrecision(6).maxScale(2).inRange(MIN, MAX))
+            .field("reference")
+            .nonNull()
+            .bigInteger(Payment::reference, reference -> reference.maxDigits(4).nonNegative()));
+
+    @Test
+    void decimal__then_same_answers_as_plain_compare_and_string_digits() {
+        var random = new Random(11);
+        for (var idx = 0; idx < 5_000; idx++) {
+            var amount = BigDecimal.valueOf(random.nextLong() % 100_000_000L, random.nextInt(12) - 4);
+            var reference = BigInteger.valueOf(random.nextInt(40_000) - 20_000).shiftLeft(random.nextInt(3));
+            var payment = new Payment(amount, reference);
+
+            var expected = new ArrayList<String>();
+            if (amount.precision() > 6) {
+                expected.add("precision must be at most 6");
+            }
+            if (amount.scale() > 2) {
+                expected.add("scale must be at most 2");
+            }
+            if (amount.compareTo(MIN) < 0 || amount.compareTo(MAX) > 0) {
+                expected.add("must be between -12.50 and 1000");
+            }
+            if (reference.abs().toString().length() > 4) {
+                expected.add("must have at most 4 digits");
+            }
+            if (reference.signum() < 0) {
+                expected.add("must not be negative");
+            }
+
+            assertEquals(expected, messages(spec.validate(payment)), payment::toString);
+            assertEquals(expected, messages(spec.compile().validate(payment)), payment::toString);
+        }
+    }
+
+    @Test
+    void decimal__when_bounds_have_other_scale__then_compared_by_value() {
+        var subject = new Payment(new BigDecimal("1000.00"), BigInteger.valueOf(-9_999));
+
+        assertEquals(List.of("scale must be at most 2", "must not be negative"), messages(spec.validate(
+                new Payment(new BigDecimal("-12.500"), BigInteger.valueOf(-1)))));
+        assertEquals(List.of("must not be negative"), messages(spec.validate(subject)));
+    }
+
+    @Test
+    void inRange__when_min_greater_than_max__then_rejected() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> Valid.<Payment>validationSpec(payment -> payment.field("amount")
+                        .nonNull()
+                        .decimal(Payment::amount, amount -> amount.inRange(BigDecimal.TEN, BigDecimal.ONE))));
+    }
+
+    private static List<String> messages(Valid<Payment> valid) {
+        return valid.violations().list().stream().map(Violation::message).toList();
+    }
+}
@@ -0,0 +1,98 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ItemsAssertionsTest implements FastTest {
+
+    record Line(String sku, int quantity, List<String> tags) {}
+
+    record Order(String currency, int maxQuantity, List<Line> lines) {}
+
+    private final ValidationSpec<Order> spec = Valid.validationSpec(order -> order.field("lines")
+            .nonNull()
+            .items(Order::lines, lines -> lines.notEmpty()
+                    .maxSize(3)
+                    .eachItem(line -> line.field("sku")
+                            .nonNull()
+                            .string(Line::sku, sku -> sku.notBlank())
+                            .field("tags")
+                            .nonNull()
+                            .items(Line::tags, tags -> tags.checkItem("must be lower case", (tag, idx) ->
+                                    tag.equals(tag.toLowerCase(Locale.ROOT))))
+                            .checkWithParent("quantity must not exceed order maximum", child -> {
+                                var parent = (Order) child.parent();
+                                return child.value().quantity() <= parent.maxQuantity();
+                            }))));
+
+    @Test
+    void items__then_reports_violations_under_indexed_paths() {
+        var order = new Order(
+                "EUR",
+                5,
+                Arrays.asList(
+                        new Line("A-1", 1, List.of("new")),
+                        new Line(" ", 9, List.of("ok", "Sale")),
+                        null));
+        var expected = List.of(
+                Violation.of("lines", "size must be at most 3"),
+                Violation.of("lines[1].sku", "must not be blank"),
+                Violation.of("lines[1].tags[1]", "must be lower case"),
+                Violation.of("lines[1]", "quantity must not exceed order maximum"),
+                Violation.of("lines[2]", "is null"));
+        var valid = new Line("B", 1, List.of());
+        var tooMany = new Order("EUR", 5, List.of(valid, valid, valid, valid));
+
+        for (var candidate : List.of(spec, spec.compile())) {
+            assertEquals(expected.subList(1, 5), candidate.validate(order).violations().list());
+            assertEquals(expected.subList(0, 1), candidate.validate(tooMany).violations().list());
+            assertEquals(expected.subList(1, 2), candidate.validateFirst(order).violations().list());
+            assertFalse(candidate.test(order));
+            assertTrue(candidate.test(new Order("EUR", 1, List.of(new Line("A", 1, List.of("x"))))));
+        }
+    }
+
+    @Test
+    void checkWithParent__when_nested_list__then_index_and_ancestors_are_reachable() {
+        record Leaf(int value) {}
+        record Branch(List<Leaf> leaves) {}
+        record Tree(Set<Branch> branches) {}
+        ValidationSpec<Tree> tree = Valid.validationSpec(root -> root.field("branches")
+                .nonNull()
+                .items(Tree::branches, branches -> branches.eachItem(branch -> branch.field("leaves")
+                        .nonNull()
+                        .items(Branch::leaves, leaves -> leaves.eachItem(leaf -> leaf.checkWithParent(
+                                "must equal its index", child -> {
+                                    var branchView = (IndexedChild<?, ?>) child.parent();
+                                    return child.value().value() == child.index()
+                                            && branchView.index() == 0
+                                            && branchView.parent() instanceof Tree;
+                                }))))));
+
+        assertTrue(tree.validate(new Tree(Set.of(new Branch(List.of(new Leaf(0), new Leaf(1)))))).isValid());
+        assertEquals(
+                List.of(Violation.of("branches[0].leaves[1]", "must equal its index")),
+                tree.validate(new Tree(Set.of(new Branch(List.of(new Leaf(0), new Leaf(7))))))
+                        .violations()
+                        .list());
+    }
+
+    @Test
+    void checkWithParent__when_root__then_parent_is_not_available() {
+        ValidationSpec<Order> root = Valid.validationSpec(order -> order.checkWithParent("has parent", child -> {
+            child.parent();
+            return true;
+        }));
+
+        assertThrows(IllegalStateException.class, () -> root.validate(new Order("EUR", 1, List.of())));
+    }
+}
@@ -0,0 +1,127 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class NullSpecTest implements FastTest {
+
+    record City(String name) {}
+
+    record Address(City city, String street) {}
+
+    record Customer(String name, Address address) {}
+
+    private final ValidationSpec<Customer> spec = Valid.validationSpec(customer -> customer.field("name")
+            .nullable()
+            .string(Customer::name, name -> name.notBlank())
+            .field("address")
+            .nonNull()
+            .nested(Customer::address, address -> address.field("street")
+                    .nonNull()
+                    .string(Address::street, street -> street.notEmpty())
+                    .field("city")
+                    .nonNull()
+                    .nested(Address::city, city -> city.field("name")
+                            .nonNull()
+                            .string(City::name, name -> name.minLength(2)))));
+
+    @Test
+    void nullable__when_null__then_rules_are_skipped() {
+        var subject = new Customer(null, new Address(new City("Kyiv"), "Main"));
+
+        for (var candidate : List.of(spec, spec.compile())) {
+            assertTrue(candidate.validate(subject).isValid());
+        }
+    }
+
+    @Test
+    void nullable__when_present__then_rules_run() {
+        var subject = new Customer(" ", new Address(new City("Kyiv"), "Main"));
+
+        for (var candidate : List.of(spec, spec.compile())) {
+            assertEquals(
+                    List.of(Violation.of("name", "must not be blank")),
+                    candidate.validate(subject).violations().list());
+        }
+    }
+
+    @Test
+    void nonNull__when_null__then_reports_null_under_field_path_and_skips_nested_rules() {
+        for (var candidate : List.of(spec, spec.compile())) {
+            assertEquals(
+                    List.of(Violation.of("address", "is null")),
+                    candidate.validate(new Customer("Ann", null)).violations().list());
+            assertEquals(
+                    List.of(Violation.of("address.city", "is null")),
+                    candidate
+                            .validate(new Customer("Ann", new Address(null, "Main")))
+                            .violations()
+                            .list());
+        }
+    }
+
+    @Test
+    void nonNull__when_no_rules__then_still_rejects_null() {
+        var bare = Valid.<Customer>validationSpec(
+                customer -> customer.field("name").nonNull().string(Customer::name, name -> name));
+
+        for (var candidate : List.of(bare, bare.compile())) {
+            assertTrue(candidate.validate(new Customer("", null)).isValid());
+            assertEquals(
+                    List.of(Violation.of("name", "is null")),
+                    candidate.validate(new Customer(null, null)).violations().list());
+        }
+    }
+
+    @Test
+    void nested__then_prefixes_field_paths_with_every_enclosing_field() {
+        var subject = new Customer("Ann", new Address(new City("K"), ""));
+        var expected = List.of(
+                Violation.of("address.street", "must not be empty"),
+                Violation.of("address.city.name", "length must be at least 2"));
+
+        for (var candidate : List.of(spec, spec.compile())) {
+            assertEquals(expected, candidate.validate(subject).violations().list());
+        }
+    }
+
+    @Test
+    void validationSpec__when_no_rules__then_every_subject_is_valid() {
+        var empty = Valid.<Customer>validationSpec(customer -> customer);
+        var subject = new Customer(null, null);
+
+        for (var candidate : List.of(empty, empty.compile())) {
+            assertTrue(candidate.validate(subject).isValid());
+            assertTrue(candidate.test(subject));
+        }
+    }
+
+    @Test
+    void validationSpec__then_functions_and_operators_use_the_spec_rules() {
+        var valid = new Customer("Ann", new Address(new City("Kyiv"), "Main"));
+        var invalid = new Customer("Ann", null);
+
+        for (var candidate : List.of(spec, spec.compile())) {
+            assertSame(valid, candidate.toFunction().apply(valid).optional().orElseThrow());
+            assertTrue(candidate.toFunction().apply(invalid).isNotValid());
+            assertSame(valid, candidate.toThrowingOperator(IllegalStateException::new).apply(valid));
+            assertThrows(
+                    IllegalStateException.class,
+                    () -> candidate.toThrowingOperator(IllegalStateException::new).apply(invalid));
+            var exception = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> candidate
+                            .toFailingValidationOperator(
+                                    violations -> new IllegalArgumentException(
+                                            violations.list().get(0).field()))
+                            .apply(invalid));
+            assertEquals("address", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class NumberAssertionsTest implements FastTest {
+
+    record Tick(int size, long volume, double price, BigDecimal notional) {}
+
+    private final ValidationSpec<Tick> spec = Valid.validationSpec(tick -> tick.field("size")
+            .intField(Tick::size, size -> size.gt(0).lte(1_000))
+            .field("volume")
+            .longField(Tick::volume, volume -> volume.gte(0).lt(Long.MIN_VALUE))
+            .field("price")
+            .doubleField(Tick::price, price -> price.inRange(0.0, 10.0).check("must be round", p -> p == Math.rint(p)))
+            .field("notional")
+            .nonNull()
+            .number(Tick::notional, notional -> notional.gte(BigDecimal.ONE).lte(BigDecimal.TEN)));
+
+    @Test
+    void primitive_fields__when_valid__then_no_violations() {
+        var valid = Valid.<Tick>validationSpec(tick -> tick.field("size")
+                .intField(Tick::size, size -> size.inRange(1, 5))
+                .field("volume")
+                .longField(Tick::volume, volume -> volume.gt(Long.MAX_VALUE - 1).check("odd", v -> v % 2 != 0))
+                .field("price")
+                .doubleField(Tick::price, price -> price.gt(0.0).lt(Double.POSITIVE_INFINITY)));
+        var subject = new Tick(5, Long.MAX_VALUE, Double.MIN_VALUE, BigDecimal.ONE);
+
+        assertTrue(valid.validate(subject).isValid());
+        assertTrue(valid.compile().test(subject));
+    }
+
+    @Test
+    void primitive_fields__when_invalid__then_violations_in_declaration_order() {
+        var subject = new Tick(0, -1, Double.NaN, new BigDecimal("10.5"));
+        var expected = List.of(
+                Violation.of("size", "must be greater than 0"),
+                Violation.of("volume", "must be greater than or equal to 0"),
+                Violation.of("volume", "must be less than " + Long.MIN_VALUE),
+                Violation.of("price", "must be between 0.0 and 10.0"),
+                Violation.of("price", "must be round"),
+                Violation.of("notional", "must be less than or equal to 10"));
+
+        assertEquals(expected, spec.validate(subject).violations().list());
+        assertEquals(expected, spec.compile().validate(subject).violations().list());
+        assertEquals(expected.subList(0, 1), spec.compile().validateFirst(subject).violations().list());
+    }
+
+    @Test
+    void inRange__when_min_greater_than_max__then_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> Valid.<Tick>validationSpec(
+                tick -> tick.field("size").intField(Tick::size, size -> size.inRange(2, 1))));
+        assertThrows(IllegalArgumentException.class, () -> Valid.<Tick>validationSpec(
+                tick -> tick.field("price").doubleField(Tick::price, price -> price.gte(Double.NaN))));
+    }
+}
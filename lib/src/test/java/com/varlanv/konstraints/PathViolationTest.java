@@ -0,0 +1,42 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.varlanv.imp.commontest.FastTest;
+import org.junit.jupiter.api.Test;
+
+class PathViolationTest implements FastTest {
+
+    @Test
+    void withIndex__then_fills_placeholders_innermost_first_and_renders_on_demand() {
+        var template = Violation.of("orders[].lines[].sku", "must not be blank");
+
+        var inner = PathViolation.withIndex(template, 1, 3);
+        assertEquals("orders[].lines[3].sku", inner.field());
+        var outer = PathViolation.withIndex(inner, 0, 17);
+
+        assertSame(inner, outer);
+        assertEquals("orders[17].lines[3].sku", outer.field());
+        var expected = Violation.of("orders[17].lines[3].sku", "must not be blank");
+        assertEquals(expected, outer);
+        assertEquals(outer, expected);
+        assertEquals(expected.hashCode(), outer.hashCode());
+    }
+
+    @Test
+    void withIndex__when_no_placeholder_for_slot__then_returns_violation_as_is() {
+        var violation = Violation.of("sku", "must not be blank");
+
+        assertSame(violation, PathViolation.withIndex(violation, 0, 1));
+    }
+
+    @Test
+    void withIndex__when_templates_are_distinct_equal_strings__then_violations_are_equal() {
+        var left = PathViolation.withIndex(Violation.of(new String("lines[].sku"), "is blank"), 0, 2);
+        var right = PathViolation.withIndex(Violation.of("lines[].sku", "is blank"), 0, 2);
+
+        assertEquals(left, right);
+        assertEquals(left.hashCode(), right.hashCode());
+    }
+}
@@ -0,0 +1,117 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RecordComponentsTest implements FastTest {
+
+    record Line(String sku, short quantity) {}
+
+    record Customer(String name, String email) {}
+
+    record Order(
+            String id, int lines, long total, float rate, BigDecimal amount, Customer customer, List<Line> items) {}
+
+    private final ValidationSpec<Order> spec = Valid.validationSpec(Order.class, order -> order.component("id")
+            .nonNull()
+            .string(id -> id.notBlank().lengthRange(2, 6))
+            .component("lines")
+            .intField(lines -> lines.gt(0))
+            .component("total")
+            .longField(total -> total.lte(1_000))
+            .component("rate")
+            .doubleField(rate -> rate.inRange(0.0, 1.0))
+            .component("amount")
+            .nullable()
+            .decimal(amount -> amount.gte(BigDecimal.ZERO))
+            .component("customer")
+            .nonNull()
+            .nested(Customer.class, customer -> customer.component("name")
+                    .nonNull()
+                    .string(name -> name.notEmpty())
+                    .component("email")
+                    .assertNull())
+            .component("items")
+            .nonNull()
+            .items(Line.class, items -> items.maxSize(2).eachItem(line -> line.component("sku")
+                    .nonNull()
+                    .string(sku -> sku.length(3))
+                    .component("quantity")
+                    .intField(quantity -> quantity.inRange(1, 10)))));
+
+    private final ValidationSpec<Order> reference = Valid.validationSpec(order -> order.field("id")
+            .nonNull()
+            .string(Order::id, id -> id.notBlank().lengthRange(2, 6))
+            .field("lines")
+            .intField(Order::lines, lines -> lines.gt(0))
+            .field("total")
+            .longField(Order::total, total -> total.lte(1_000))
+            .field("rate")
+            .doubleField(Order::rate, rate -> rate.inRange(0.0, 1.0))
+            .field("amount")
+            .nullable()
+            .decimal(Order::amount, amount -> amount.gte(BigDecimal.ZERO))
+            .field("customer")
+            .nonNull()
+            .nested(Order::customer, customer -> customer.field("name")
+                    .nonNull()
+                    .string(Customer::name, name -> name.notEmpty())
+                    .field("email")
+                    .assertNull(Customer::email))
+            .field("items")
+            .nonNull()
+            .items(Order::items, items -> items.maxSize(2).eachItem(line -> line.field("sku")
+                    .nonNull()
+                    .string(Line::sku, sku -> sku.length(3))
+                    .field("quantity")
+                    .intField(Line::quantity, quantity -> quantity.inRange(1, 10)))));
+
+    @Test
+    void component__then_same_violations_as_explicit_extractors() {
+        var subjects = List.of(
+                new Order("ab", 1, 10, 0.5f, null, new Customer("x", null), List.of(new Line("abc", (short) 1))),
+                new Order(" ", 0, 1_001, 1.5f, BigDecimal.ONE.negate(), new Customer("", "a@b"), List.of()),
+                new Order(null, 1, 0, 0f, null, null, null),
+                new Order("abc", 2, 0, 0f, null, new Customer(null, null), Arrays.asList(
+                        new Line("ab", (short) 0), null, new Line("abc", (short) 11))));
+
+        for (var subject : subjects) {
+            assertEquals(reference.validate(subject).violations().list(), spec.validate(subject).violations().list());
+            assertEquals(reference.test(subject), spec.compile().test(subject));
+        }
+        assertTrue(spec.test(subjects.get(0)));
+    }
+
+    @Test
+    void component__then_extractors_are_shared_per_record_class() {
+        var first = RecordComponents.of(Customer.class).component("name").function(String.class);
+        var second = RecordComponents.of(Customer.class).component("name").function(CharSequence.class);
+
+        assertSame(first, second);
+        assertEquals("x", first.apply(new Customer("x", null)));
+    }
+
+    @Test
+    void component__when_misdeclared__then_rejected_while_building_spec() {
+        assertThrows(IllegalArgumentException.class, () -> Valid.validationSpec(
+                Customer.class, customer -> customer.component("phone").nonNull().string(phone -> phone.notBlank())));
+        assertThrows(IllegalArgumentException.class, () -> Valid.validationSpec(
+                Line.class, line -> line.component("sku").intField(sku -> sku.gt(0))));
+        assertThrows(IllegalArgumentException.class, () -> Valid.validationSpec(
+                Line.class, line -> line.component("quantity").longField(quantity -> quantity.gt(0))
+                        .component("sku").nonNull().decimal(sku -> sku.gte(BigDecimal.ONE))));
+        assertThrows(IllegalArgumentException.class, () -> Valid.validationSpec(String.class, value -> value));
+        assertThrows(IllegalStateException.class, () -> Valid.<Line>validationSpec(
+                line -> line.component("sku").assertNotNull()));
+        assertThrows(IllegalStateException.class, () -> Valid.<Line>validationSpec(
+                line -> line.field("sku").nonNull().string(sku -> sku.notBlank())));
+    }
+}
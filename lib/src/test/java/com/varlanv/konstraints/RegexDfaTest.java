@@ -0,0 +1,112 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class RegexDfaTest implements FastTest {
+
+    private static final List<String> SUPPORTED = List.of(
+            "",
+            "abc",
+            "a*",
+            "a+b?",
+            "(ab|a)*b",
+            "[a-c]{2,3}",
+            "[^a-c]+",
+            "[-a]x[a-]",
+            "\\d{3}-\\d{4}",
+            "\\w+@\\w+\\.[a-z]{2,6}",
+            "[a-z0-9._-]+@[a-z0-9-]+\\.[a-z]{2,6}",
+            "\\s*\\S+\\s*",
+            "\\D\\W?",
+            "^ab.c$",
+            "a.{0,2}c",
+            "(?:x|yz){2,}",
+            "a*?b+?",
+            "(a|b|)c",
+            "\\x41\\u00e9[\\t\\n]",
+            "(a*)*b",
+            "a{0}b");
+
+    private static final List<String> UNSUPPORTED =
+            List.of("(a)\\1", "a(?=b)", "a*+", "\\bword", "\\p{L}+", "[a-z&&[^c]]", "(?i)abc", "a^b", "\\Qa\\E");
+
+    @Test
+    void compile__when_supported__then_same_answers_as_pattern() {
+        var random = new Random(42);
+        var alphabet = "abcxyz019-_.@ \t\nA\u00e9\u2028";
+        for (var regex : SUPPORTED) {
+            var pattern = Pattern.compile(regex);
+            var dfa = RegexDfa.compile(pattern);
+            assertNotNull(dfa, regex);
+            for (var input : inputs(random, alphabet)) {
+                assertEquals(
+                        pattern.matcher(input).matches(),
+                        dfa.match(input) == RegexDfa.MATCH,
+                        () -> regex + " on [" + input + "]");
+            }
+        }
+    }
+
+    @Test
+    void compile__when_unsupported__then_falls_back_to_pattern() {
+        for (var regex : UNSUPPORTED) {
+            var matcher = PatternMatcher.of(Pattern.compile(regex));
+
+            assertFalse(matcher.isAutomaton(), regex);
+        }
+        assertNull(RegexDfa.compile(Pattern.compile("abc", Pattern.CASE_INSENSITIVE)));
+    }
+
+    @Test
+    void matches__when_input_has_surrogates__then_same_answer_as_pattern() {
+        var matcher = PatternMatcher.of(Pattern.compile(".{1,2}"));
+        var emoji = "\uD83D\uDE00";
+
+        assertTrue(matcher.isAutomaton());
+        assertEquals(RegexDfa.UNSUPPORTED_INPUT, RegexDfa.compile(Pattern.compile(".{1,2}")).match(emoji));
+        assertTrue(matcher.matches(emoji + emoji));
+        assertFalse(matcher.matches(emoji + emoji + emoji));
+    }
+
+    @Test
+    void matches__when_input_is_not_a_string__then_no_copy_is_needed() {
+        var matcher = PatternMatcher.of(Pattern.compile("[a-z]+\\d"));
+
+        assertTrue(matcher.matches(new StringBuilder("abc1")));
+        assertFalse(matcher.matches(new StringBuilder("abc")));
+    }
+
+    @Test
+    void matches__when_pathological_pattern__then_linear() {
+        var matcher = PatternMatcher.of(Pattern.compile("(a|aa)*b"));
+
+        assertTrue(matcher.isAutomaton());
+        assertFalse(matcher.matches("a".repeat(100_000)));
+    }
+
+    private static List<String> inputs(Random random, String alphabet) {
+        var result = new ArrayList<String>();
+        result.add("");
+        for (var idx = 0; idx < 400; idx++) {
+            var length = random.nextInt(9);
+            var builder = new StringBuilder(length);
+            for (var pos = 0; pos < length; pos++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            result.add(builder.toString());
+        }
+        result.addAll(List.of("abc", "ab", "b", "ababab", "555-1234", "john@example.com", "a.b", "xyzyz", "A\u00e9\t"));
+        return result;
+    }
+}
@@ -0,0 +1,129 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RevalidateTest implements FastTest {
+
+    record Address(String street, String city) {}
+
+    record Customer(String name, Address address, int age) {}
+
+    record Line(String sku) {}
+
+    record Order(String currency, List<Line> lines) {}
+
+    record Contact(String name, String email) {}
+
+    private final AtomicInteger nameChecks = new AtomicInteger();
+
+    private final ValidationSpec<Customer> spec = Valid.validationSpec(customer -> customer.field("name")
+            .nonNull()
+            .string(Customer::name, name -> name.check("must be capitalized", value -> {
+                nameChecks.incrementAndGet();
+                return !value.isEmpty() && Character.isUpperCase(value.charAt(0));
+            }))
+            .field("address")
+            .nonNull()
+            .nested(Customer::address, address -> address.field("street")
+                    .nonNull()
+                    .string(Address::street, street -> street.notBlank())
+                    .field("city")
+                    .nonNull()
+                    .string(Address::city, city -> city.notBlank()))
+            .field("age")
+            .intField(Customer::age, age -> age.gte(18)));
+
+    @Test
+    void revalidate__then_reruns_only_changed_fields_and_keeps_declaration_order() {
+        for (var candidate : List.of(spec, spec.compile())) {
+            var before = new Customer("bob", new Address(" ", "Kyiv"), 17);
+            var previous = candidate.validate(before);
+            var fixedStreet = new Customer("bob", new Address("Main", ""), 17);
+            var expected = candidate.validate(fixedStreet).violations().list();
+            nameChecks.set(0);
+
+            var afterStreet = candidate.revalidate(previous, fixedStreet, Set.of("address.street"));
+            assertEquals(expected, afterStreet.violations().list());
+
+            var fixedAge = new Customer("bob", new Address("Main", ""), 18);
+            var afterAge = candidate.revalidate(afterStreet, fixedAge, Set.of("age"));
+            assertEquals(
+                    List.of(
+                            Violation.of("name", "must be capitalized"),
+                            Violation.of("address.city", "must not be blank")),
+                    afterAge.violations().list());
+            assertEquals(0, nameChecks.get());
+
+            var fixed = new Customer("Bob", new Address("Main", "Lviv"), 18);
+            assertTrue(candidate.revalidate(afterAge, fixed, Set.of("name", "address")).isValid());
+            assertEquals(1, nameChecks.get());
+        }
+    }
+
+    @Test
+    void revalidate__when_items_have_violations__then_keeps_indexed_violations_and_reruns_changed_items() {
+        var orders = Valid.<Order>validationSpec(order -> order.field("currency")
+                .nonNull()
+                .string(Order::currency, currency -> currency.notBlank())
+                .field("lines")
+                .nonNull()
+                .items(Order::lines, lines -> lines.eachItem(line -> line.field("sku")
+                        .nonNull()
+                        .string(Line::sku, sku -> sku.notBlank()))));
+        for (var candidate : List.of(orders, orders.compile())) {
+            var bad = new Order(" ", List.of(new Line(" "), new Line("A")));
+            var next = new Order("", List.of(new Line(" "), new Line("A")));
+
+            var afterCurrency = candidate.revalidate(candidate.validate(bad), next, Set.of("currency"));
+            assertEquals(candidate.validate(next).violations().list(), afterCurrency.violations().list());
+            assertEquals(2, afterCurrency.violations().list().size());
+
+            var fixedLine = new Order("", List.of(new Line("B"), new Line("A")));
+            var afterLine = candidate.revalidate(afterCurrency, fixedLine, Set.of("lines[0].sku"));
+            assertEquals(List.of(Violation.of("currency", "must not be blank")), afterLine.violations().list());
+        }
+    }
+
+    @Test
+    void revalidate__when_field_is_declared_in_non_adjacent_rules__then_equals_validate_in_order() {
+        var contacts = Valid.<Contact>validationSpec(contact -> contact.field("name")
+                .nonNull()
+                .string(Contact::name, name -> name.notBlank())
+                .field("email")
+                .nonNull()
+                .string(Contact::email, email -> email.notBlank())
+                .field("name")
+                .nonNull()
+                .string(Contact::name, name -> name.maxLength(2)));
+        for (var candidate : List.of(contacts, contacts.compile())) {
+            var previous = candidate.validate(new Contact("   ", ""));
+            var next = new Contact("   ", " ");
+            var expected = List.of(
+                    Violation.of("name", "must not be blank"),
+                    Violation.of("email", "must not be blank"),
+                    Violation.of("name", "length must be at most 2"));
+
+            assertEquals(expected, candidate.validate(next).violations().list());
+            assertEquals(
+                    expected,
+                    candidate.revalidate(previous, next, Set.of("email")).violations().list());
+        }
+    }
+
+    @Test
+    void revalidate__when_violation_has_no_owning_field__then_reruns_every_rule() {
+        var previous = Valid.<Customer>invalid(Violations.of(Violation.of("unknown", "stale")));
+        var subject = new Customer("bob", new Address("Main", "Lviv"), 18);
+
+        var result = spec.revalidate(previous, subject, Set.of());
+
+        assertEquals(spec.validate(subject).violations().list(), result.violations().list());
+    }
+}
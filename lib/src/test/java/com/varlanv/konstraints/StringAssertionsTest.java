@@ -0,0 +1,89 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class StringAssertionsTest implements FastTest {
+
+    record Account(String login, String code, String note) {}
+
+    private final ValidationSpec<Account> spec = Valid.validationSpec(account -> account.field("login")
+            .nonNull()
+            .string(Account::login, login -> login.notBlank().minLength(3).maxLength(8))
+            .field("code")
+            .nonNull()
+            .string(Account::code, code -> code.length(4).matches(Pattern.compile("[A-Z]+\\d*")))
+            .field("note")
+            .nonNull()
+            .string(Account::note, note -> note.lengthRange(0, 5)
+                    .check("must be lower case", n -> n.equals(n.toLowerCase()))));
+
+    @Test
+    void string_builders__when_valid__then_no_violations() {
+        var subject = new Account("alice", "AB12", "ok");
+
+        for (var candidate : List.of(spec, spec.compile())) {
+            assertTrue(candidate.validate(subject).isValid());
+            assertTrue(candidate.test(subject));
+        }
+    }
+
+    @Test
+    void string_builders__when_invalid__then_violations_in_declaration_order() {
+        var subject = new Account("   ", "ab1", "TOO LONG");
+        var expected = List.of(
+                Violation.of("login", "must not be blank"),
+                Violation.of("code", "length must be 4"),
+                Violation.of("code", "not match"),
+                Violation.of("note", "length must be between 0 and 5"),
+                Violation.of("note", "must be lower case"));
+
+        for (var candidate : List.of(spec, spec.compile())) {
+            assertEquals(expected, candidate.validate(subject).violations().list());
+            assertEquals(expected.subList(0, 1), candidate.validateFirst(subject).violations().list());
+        }
+    }
+
+    @Test
+    void minLength_and_maxLength__then_report_bound_in_message() {
+        for (var candidate : List.of(spec, spec.compile())) {
+            assertEquals(
+                    List.of(Violation.of("login", "length must be at least 3")),
+                    candidate.validate(new Account("al", "AB12", "")).violations().list());
+            assertEquals(
+                    List.of(Violation.of("login", "length must be at most 8")),
+                    candidate.validate(new Account("alexander", "AB12", "")).violations().list());
+        }
+    }
+
+    @Test
+    void empty_and_notEmpty__then_check_length_only() {
+        var emptySpec = Valid.<Account>validationSpec(account -> account.field("note")
+                .nonNull()
+                .string(Account::note, note -> note.empty())
+                .field("login")
+                .nonNull()
+                .string(Account::login, login -> login.notEmpty()));
+
+        for (var candidate : List.of(emptySpec, emptySpec.compile())) {
+            assertTrue(candidate.validate(new Account(" ", "", "")).isValid());
+            assertEquals(
+                    List.of(Violation.of("note", "must be empty"), Violation.of("login", "must not be empty")),
+                    candidate.validate(new Account("", "", " ")).violations().list());
+        }
+    }
+
+    @Test
+    void lengthRange__when_min_greater_than_max__then_rejected() {
+        var exception = assertThrows(IllegalArgumentException.class, () -> Valid.<Account>validationSpec(
+                account -> account.field("login").nonNull().string(Account::login, login -> login.lengthRange(3, 2))));
+
+        assertEquals("minLength must be less than or equal to maxLength", exception.getMessage());
+    }
+}
@@ -0,0 +1,105 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class StringScannerTest implements FastTest {
+
+    record Rec(String text) {}
+
+    private final ValidationSpec<Rec> spec = Valid.validationSpec(rec -> rec.field("text")
+            .nonNull()
+            .string(Rec::text, text -> text.notBlank()
+                    .maxLength(6)
+                    .check("must not start with x", value -> !value.startsWith("x"))
+                    .asciiOnly()
+                    .matches(Pattern.compile("[^#]*"))
+                    .noControlChars()
+                    .charset("abcx #\t\u00e9 ")));
+
+    @Test
+    void fused__then_same_violations_in_same_order_as_separate_checks() {
+        var random = new Random(7);
+        var alphabet = "abcx #\t\u00e9\u0001z ";
+        for (var idx = 0; idx < 2_000; idx++) {
+            var builder = new StringBuilder();
+            for (var pos = random.nextInt(9); pos > 0; pos--) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            var subject = new Rec(builder.toString());
+            var expected = expectedMessages(subject.text());
+
+            assertEquals(expected, messages(spec.validate(subject)), subject::toString);
+            assertEquals(expected, messages(spec.compile().validate(subject)), subject::toString);
+            assertEquals(expected.isEmpty(), spec.test(subject));
+            assertEquals(expected.isEmpty(), spec.compile().test(subject));
+            if (!expected.isEmpty()) {
+                assertEquals(expected.subList(0, 1), messages(spec.validateFirst(subject)));
+                assertEquals(expected.subList(0, 1), messages(spec.compile().validateFirst(subject)));
+            }
+        }
+    }
+
+    @Test
+    void fused__when_invalid__then_reports_each_failed_check() {
+        var subject = new Rec("x\u0001\u00e9#longer");
+
+        assertEquals(
+                List.of(
+                        "length must be at most 6",
+                        "must not start with x",
+                        "must contain only ASCII characters",
+                        "not match",
+                        "must not contain control characters",
+                        "must contain only allowed characters"),
+                spec.compile().validate(subject).violations().list().stream()
+                        .map(Violation::message)
+                        .toList());
+    }
+
+    @Test
+    void charset__when_allowed_chars_have_surrogates__then_rejected() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> Valid.<Rec>validationSpec(rec -> rec.field("text")
+                        .nonNull()
+                        .string(Rec::text, text -> text.charset("\uD83D\uDE00"))));
+    }
+
+    private static List<String> messages(Valid<Rec> valid) {
+        return valid.violations().list().stream().map(Violation::message).toList();
+    }
+
+    private static List<String> expectedMessages(String text) {
+        var result = new ArrayList<String>();
+        if (text.isBlank()) {
+            result.add("must not be blank");
+        }
+        if (text.length() > 6) {
+            result.add("length must be at most 6");
+        }
+        if (text.startsWith("x")) {
+            result.add("must not start with x");
+        }
+        if (text.chars().anyMatch(c -> c > 127)) {
+            result.add("must contain only ASCII characters");
+        }
+        if (text.contains("#")) {
+            result.add("not match");
+        }
+        if (text.chars().anyMatch(Character::isISOControl)) {
+            result.add("must not contain control characters");
+        }
+        if (text.chars().anyMatch(c -> "abcx #\t\u00e9 ".indexOf(c) < 0)) {
+            result.add("must contain only allowed characters");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,92 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class ValidBatchTest implements FastTest {
+
+    record Rec(String name, String code) {}
+
+    private final ValidationSpec<Rec> spec = Valid.validationSpec(rec -> rec.field("name")
+            .nonNull()
+            .string(Rec::name, name -> name.notBlank().lengthRange(2, 5))
+            .field("code")
+            .nullable()
+            .string(Rec::code, code -> code.length(3)));
+
+    private final List<Rec> subjects = List.of(
+            new Rec("abc", "xyz"),
+            new Rec(" ", "toolong"),
+            new Rec("abcd", null),
+            new Rec(null, "xy"),
+            new Rec("ab", "xyz"));
+
+    @Test
+    void validateBatch__then_same_violations_as_validate_per_subject() {
+        for (var candidate : List.of(spec, spec.compile())) {
+            var batch = candidate.validateBatch(subjects);
+
+            assertEquals(subjects.size(), batch.size());
+            assertEquals(2, batch.invalidCount());
+            assertFalse(batch.isValid());
+            for (var idx = 0; idx < subjects.size(); idx++) {
+                var expected = spec.validate(subjects.get(idx));
+                assertEquals(expected.isValid(), batch.isValid(idx));
+                assertEquals(expected.violations().list(), batch.violations(idx).list());
+            }
+        }
+    }
+
+    @Test
+    void validateBatch__then_valid_indices_and_subjects_are_reported() {
+        var batch = spec.compile().validateBatch(new LinkedList<>(subjects));
+        var expected = new BitSet();
+        expected.set(0);
+        expected.set(2);
+        expected.set(4);
+
+        assertEquals(expected, batch.validIndices());
+        assertEquals(List.of(subjects.get(0), subjects.get(2), subjects.get(4)), batch.validSubjects());
+        assertEquals(List.of(1, 3), new ArrayList<>(batch.violationsByIndex().keySet()));
+    }
+
+    @Test
+    void validateBatch__when_empty__then_valid() {
+        var batch = spec.validateBatch(List.of());
+
+        assertTrue(batch.isValid());
+        assertEquals(0, batch.size());
+    }
+
+    @Test
+    void validateParallel__when_spec_is_shared_by_workers__then_same_result_as_sequential_batch() {
+        var many = new ArrayList<Rec>();
+        for (var idx = 0; idx < 20_000; idx++) {
+            many.add(subjects.get(idx % subjects.size()));
+        }
+        var pool = new ForkJoinPool(4);
+        try {
+            for (var candidate : List.of(spec, spec.compile(), spec.withScratchBuffer())) {
+                var sequential = candidate.validateBatch(many);
+                var parallel = candidate.validateParallel(many, pool);
+
+                assertEquals(sequential.validIndices(), parallel.validIndices());
+                assertEquals(sequential.violationsByIndex().size(), parallel.violationsByIndex().size());
+                for (var idx = 0; idx < many.size(); idx++) {
+                    assertEquals(sequential.violations(idx).list(), parallel.violations(idx).list());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
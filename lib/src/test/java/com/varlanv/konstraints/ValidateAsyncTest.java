@@ -0,0 +1,119 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ValidateAsyncTest implements FastTest {
+
+    record Rec(String name, String email) {}
+
+    @Test
+    void validateAsync__when_async_checks_are_independent__then_they_run_concurrently() throws Exception {
+        for (var compiled : List.of(false, true)) {
+            // each run needs its own latch, a shared one would already be open for the second run
+            var latch = new CountDownLatch(2);
+            var spec = Valid.<Rec>validationSpec(rec -> rec.field("name")
+                    .nonNull()
+                    .string(Rec::name, name -> name.checkAsync("is taken", value -> awaitOther(latch)))
+                    .field("email")
+                    .nonNull()
+                    .string(Rec::email, email -> email.checkAsync("is taken", value -> awaitOther(latch))));
+            var candidate = compiled ? spec.compile() : spec;
+
+            var valid = candidate.validateAsync(new Rec("abc", "a@b")).get(10, TimeUnit.SECONDS);
+
+            assertTrue(valid.isValid());
+            assertEquals(0, latch.getCount());
+        }
+    }
+
+    @Test
+    void validateAsync__when_invalid__then_violations_keep_rule_order() throws Exception {
+        var spec = Valid.<Rec>validationSpec(rec -> rec.field("name")
+                .nonNull()
+                .string(Rec::name, name -> name.checkAsync("is taken", value -> sleepAndFail())
+                        .notBlank()
+                        .checkAsync("is reserved", value -> false))
+                .field("email")
+                .nonNull()
+                .string(Rec::email, email -> email.length(3)));
+        var subject = new Rec(" ", "toolong");
+
+        for (var candidate : List.of(spec, spec.compile())) {
+            var valid = candidate.validateAsync(subject).get(10, TimeUnit.SECONDS);
+
+            assertFalse(valid.isValid());
+            assertEquals(
+                    List.of("is taken", "must not be blank", "is reserved", "length must be 3"),
+                    valid.violations().list().stream().map(Violation::message).toList());
+            assertEquals(spec.validate(subject).violations().list(), valid.violations().list());
+        }
+    }
+
+    @Test
+    void validateAsync__when_sync_check_throws__then_future_completes_exceptionally() {
+        var failure = new IllegalStateException("broken check");
+        var spec = Valid.<Rec>validationSpec(rec -> rec.field("name")
+                .nonNull()
+                .string(Rec::name, name -> name.checkAsync("is taken", value -> true).check("is odd", value -> {
+                    throw failure;
+                })));
+
+        for (var candidate : List.of(spec, spec.compile())) {
+            var future = candidate.validateAsync(new Rec("abc", "a@b"));
+
+            var thrown = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+            assertSame(failure, thrown.getCause());
+        }
+    }
+
+    @Test
+    void flatMapAsync__then_chains_only_valid_results() throws Exception {
+        var spec = Valid.<Rec>validationSpec(rec -> rec.field("name")
+                .nonNull()
+                .string(Rec::name, name -> name.checkAsync("is taken", "taken"::contentEquals)));
+
+        var chained = spec.validateAsync(new Rec("taken", "a@b"))
+                .thenCompose(valid ->
+                        valid.flatMapAsync(rec -> CompletableFuture.completedFuture(Valid.valid(rec.email()))))
+                .get(10, TimeUnit.SECONDS);
+        var skipped = spec.validateAsync(new Rec("free", "a@b"))
+                .thenCompose(valid -> valid.<String>flatMapAsync(rec -> {
+                    throw new AssertionError("must not be called");
+                }))
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals("a@b", chained.orElseThrow(() -> new AssertionError()));
+        assertFalse(skipped.isValid());
+    }
+
+    private static boolean awaitOther(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean sleepAndFail() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,51 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ValidationCollectorTest implements FastTest {
+
+    private final ValidationSpec<String> spec =
+            Valid.validationSpec(root -> root.field("value").nonNull().string(value -> value, value -> value.length(3)));
+
+    private final List<String> items =
+            IntStream.range(0, 10_000).mapToObj(idx -> idx % 7 == 0 ? "bad" + idx : "ok" + idx % 10).toList();
+
+    @Test
+    void collector__when_parallel__then_same_result_as_validateBatch() {
+        var expected = spec.validateBatch(items);
+
+        for (var candidate : List.of(spec, spec.compile())) {
+            var sequential = items.stream().collect(candidate.collector());
+            var parallel = items.parallelStream().collect(candidate.collector());
+
+            for (var batch : List.of(sequential, parallel)) {
+                assertEquals(expected.size(), batch.size());
+                assertEquals(expected.validIndices(), batch.validIndices());
+                assertEquals(expected.validSubjects(), batch.validSubjects());
+                assertEquals(expected.violationsByIndex().keySet(), batch.violationsByIndex().keySet());
+                for (var idx = 0; idx < items.size(); idx++) {
+                    assertEquals(expected.violations(idx).list(), batch.violations(idx).list());
+                }
+            }
+        }
+    }
+
+    @Test
+    void divertInvalid__then_keeps_valid_and_sends_invalid_to_sink() {
+        var invalid = Collections.synchronizedList(new ArrayList<String>());
+
+        var valid = items.stream()
+                .filter(spec.divertInvalid((subject, violations) -> invalid.add(subject)))
+                .toList();
+
+        assertEquals(spec.validateBatch(items).validSubjects(), valid);
+        assertEquals(items.size() - valid.size(), invalid.size());
+    }
+}
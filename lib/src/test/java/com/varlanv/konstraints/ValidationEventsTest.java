@@ -0,0 +1,69 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+class ValidationEventsTest implements FastTest {
+
+    record Payment(String iban, long cents) {}
+
+    private final ValidationSpec<Payment> spec = Valid.<Payment>validationSpec(payment -> payment.field("iban")
+                    .nonNull()
+                    .string(Payment::iban, iban -> iban.notBlank())
+                    .field("cents")
+                    .longField(Payment::cents, cents -> cents.gt(0)))
+            .named("payments");
+
+    @Test
+    void validate__when_recording__then_emits_validation_and_slow_rule_events() throws Exception {
+        List<RecordedEvent> events;
+        try (var recording = new Recording()) {
+            recording.enable("konstraints.Validation");
+            recording.enable("konstraints.SlowRule").withThreshold(Duration.ZERO);
+            recording.start();
+            spec.validate(new Payment("DE89", 0));
+            spec.compile().test(new Payment("DE89", 1));
+            recording.stop();
+            var file = Files.createTempFile("konstraints", ".jfr");
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.delete(file);
+            }
+        }
+
+        var validations = events.stream()
+                .filter(event -> event.getEventType().getName().equals("konstraints.Validation"))
+                .collect(Collectors.toList());
+        assertEquals(2, validations.size());
+        assertEquals("payments", validations.get(0).getString("spec"));
+        assertEquals(1, validations.get(0).getInt("violations"));
+        assertEquals(Payment.class.getName(), validations.get(0).getClass("subjectClass").getName());
+        assertTrue(validations.get(1).getBoolean("valid"));
+        var slowRules = events.stream()
+                .filter(event -> event.getEventType().getName().equals("konstraints.SlowRule"))
+                .map(event -> event.getString("rule") + ":" + event.getBoolean("rejected"))
+                .collect(Collectors.toList());
+        assertEquals(List.of("field 'iban':false", "field 'cents':true"), slowRules);
+    }
+
+    @Test
+    void validate__when_not_recording__then_same_result() {
+        var subject = new Payment(" ", -1);
+
+        assertEquals(
+                List.of(Violation.of("iban", "must not be blank"), Violation.of("cents", "must be greater than 0")),
+                spec.validate(subject).violations().list());
+    }
+}
@@ -0,0 +1,113 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.Test;
+
+class ValidationMetricsTest implements FastTest {
+
+    record Order(String id, int quantity) {}
+
+    private final ValidationSpec<Order> spec = Valid.validationSpec(order -> order.field("id")
+            .nonNull()
+            .string(Order::id, id -> id.notBlank())
+            .field("quantity")
+            .intField(Order::quantity, quantity -> quantity.gt(0)));
+
+    @Test
+    void withMetrics__then_counts_invocations_rejects_and_latency() {
+        var metrics = ValidationMetrics.inMemory();
+        var rounds = 10_000;
+        var candidates = List.of(spec.withMetrics("orders", metrics), spec.compile().withMetrics("orders", metrics));
+        for (var candidate : candidates) {
+            for (var idx = 0; idx < rounds; idx++) {
+                var order = idx % 4 == 0 ? new Order(" ", 0) : new Order("o" + idx, 1);
+                assertEquals(spec.validate(order).violations().list(), candidate.validate(order).violations().list());
+            }
+        }
+
+        assertEquals(2L * rounds, metrics.invocations("orders"));
+        assertEquals(rounds / 2, metrics.invalid("orders"));
+        assertEquals(Map.of("id", rounds / 2L, "quantity", rounds / 2L), metrics.rejectsByField("orders"));
+        assertEquals(2L * rounds, metrics.latency("orders").count());
+        assertTrue(metrics.latency("orders").valueAtPercentile(99) > 0);
+        var sampled = metrics.ruleLatency("orders", "field 'quantity'").count();
+        assertTrue(sampled > 0 && sampled < rounds, "sampled " + sampled);
+        assertTrue(metrics.ruleRejects("orders", "field 'quantity'") <= sampled);
+        assertEquals(0, metrics.invocations("unknown"));
+    }
+
+    @Test
+    void withMetrics__when_test_and_validateFirst__then_counted() {
+        var metrics = ValidationMetrics.inMemory();
+        var metered = spec.withMetrics("orders", metrics).withScratchBuffer().adaptive();
+
+        metered.test(new Order("a", 1));
+        metered.validateFirst(new Order("", 0));
+
+        assertEquals(2, metrics.invocations("orders"));
+        assertEquals(1, metrics.invalid("orders"));
+        assertEquals(Map.of("id", 1L), metrics.rejectsByField("orders"));
+    }
+
+    @Test
+    void withMetrics__when_spec_has_no_rules_of_its_own__then_times_whole_validations() {
+        var metrics = ValidationMetrics.inMemory();
+        var metered = new OpaqueSpec(spec).withMetrics("opaque", metrics);
+
+        assertTrue(metered.test(new Order("a", 1)));
+        assertEquals(2, metered.validate(new Order(" ", 0)).violations().list().size());
+        assertEquals(1, metered.validateFirst(new Order(" ", 1)).violations().list().size());
+
+        assertEquals(3, metrics.invocations("opaque"));
+        assertEquals(2, metrics.invalid("opaque"));
+        assertEquals(Map.of("id", 2L, "quantity", 1L), metrics.rejectsByField("opaque"));
+        assertEquals(0, metrics.ruleLatency("opaque", "field 'id'").count());
+    }
+
+    @Test
+    void latencyHistogram__buckets_are_contiguous() {
+        for (var bucket = 1; bucket < LatencyHistogram.BUCKETS; bucket++) {
+            var lower = LatencyHistogram.bucketLowerBound(bucket);
+            assertTrue(lower > LatencyHistogram.bucketLowerBound(bucket - 1));
+            assertEquals(bucket, LatencyHistogram.bucket(lower));
+            assertEquals(bucket - 1, LatencyHistogram.bucket(lower - 1));
+        }
+    }
+
+    private static final class OpaqueSpec implements ValidationSpec<Order> {
+
+        private final ValidationSpec<Order> delegate;
+
+        OpaqueSpec(ValidationSpec<Order> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Valid<Order> validate(Order order) {
+            return delegate.validate(order);
+        }
+
+        @Override
+        public Function<Order, Valid<Order>> toFunction() {
+            return this::validate;
+        }
+
+        @Override
+        public UnaryOperator<Order> toFailingValidationOperator(Function<Violations, ? extends Throwable> onException) {
+            return order -> validate(order).orElseThrow(onException);
+        }
+
+        @Override
+        public UnaryOperator<Order> toThrowingOperator(Supplier<? extends Throwable> onException) {
+            return order -> validate(order).orElseThrow(onException);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class ValidationPlanTest implements FastTest {
+
+    record Nested(String code) {}
+
+    record Rec(String name, String email, Nested nested, String absent) {}
+
+    private final ValidationSpec<Rec> spec = Valid.validationSpec(rec -> rec.field("name")
+            .nonNull()
+            .string(Rec::name, name -> name.notBlank().lengthRange(2, 5).check("must be lowercase", value -> value
+                    .toLowerCase()
+                    .equals(value)))
+            .field("email")
+            .nullable()
+            .string(Rec::email, email -> email.matches(Pattern.compile("[a-z]+@[a-z]+")))
+            .field("nested")
+            .nonNull()
+            .nested(Rec::nested, nested -> nested.field("code")
+                    .nonNull()
+                    .string(Nested::code, code -> code.length(3)))
+            .field("absent")
+            .assertNull(Rec::absent));
+
+    @Test
+    void compile__when_valid__then_same_result_as_interpreter() {
+        var subject = new Rec("abc", "a@b", new Nested("xyz"), null);
+
+        assertTrue(spec.validate(subject).isValid());
+        assertTrue(spec.compile().validate(subject).isValid());
+    }
+
+    @Test
+    void compile__when_invalid__then_same_violations_in_same_order() {
+        var subject = new Rec("ABCDEF", "nope", new Nested("toolong"), "present");
+        var expected = List.of(
+                "length must be between 2 and 5",
+                "must be lowercase",
+                "not match",
+                "length must be 3",
+                "is not null");
+
+        var interpreted = spec.validate(subject).violations().list();
+        var compiled = spec.compile().validate(subject).violations().list();
+
+        assertEquals(interpreted, compiled);
+        assertEquals(expected, compiled.stream().map(Violation::message).toList());
+        assertEquals(Violation.of("nested.code", "length must be 3"), compiled.get(3));
+    }
+
+    @Test
+    void compile__when_nested_value_is_null__then_reports_null_and_skips_nested_checks() {
+        var subject = new Rec(null, null, null, null);
+
+        var compiled = spec.compile().validate(subject).violations().list();
+
+        assertEquals(List.of(Violation.of("name", "is null"), Violation.of("nested", "is null")), compiled);
+        assertEquals(spec.validate(subject).violations().list(), compiled);
+    }
+
+    @Test
+    void validateFirst__when_invalid__then_reports_only_first_violation() {
+        var subject = new Rec("ABCDEF", "nope", new Nested("toolong"), "present");
+        var expected = List.of(Violation.of("name", "length must be between 2 and 5"));
+
+        assertEquals(expected, spec.validateFirst(subject).violations().list());
+        assertEquals(expected, spec.compile().validateFirst(subject).violations().list());
+    }
+
+    @Test
+    void validateFirst__when_first_violation_is_nested__then_stops_inside_nested_spec() {
+        var subject = new Rec("abc", null, new Nested("toolong"), "present");
+        var expected = List.of(Violation.of("nested.code", "length must be 3"));
+
+        assertEquals(expected, spec.validateFirst(subject).violations().list());
+        assertEquals(expected, spec.compile().validateFirst(subject).violations().list());
+        assertTrue(spec.validateFirst(new Rec("abc", "a@b", new Nested("xyz"), null)).isValid());
+    }
+
+    @Test
+    void test__should_agree_with_validate_for_interpreted_and_compiled_specs() {
+        var valid = new Rec("abc", "a@b", new Nested("xyz"), null);
+        var invalidNested = new Rec("abc", "a@b", new Nested("toolong"), null);
+        var nullNested = new Rec("abc", "a@b", null, null);
+        var compiled = spec.compile();
+
+        assertTrue(spec.test(valid));
+        assertTrue(compiled.test(valid));
+        assertFalse(spec.test(invalidNested));
+        assertFalse(compiled.test(invalidNested));
+        assertFalse(spec.asPredicate().test(nullNested));
+        assertFalse(compiled.asPredicate().test(nullNested));
+    }
+
+    @Test
+    void withScratchBuffer__should_report_same_violations_and_not_leak_between_validations() {
+        var scratchSpec = spec.withScratchBuffer();
+        var invalid = new Rec("ABCDEF", "nope", new Nested("toolong"), "present");
+        var valid = new Rec("abc", "a@b", new Nested("xyz"), null);
+
+        var first = scratchSpec.validate(invalid).violations().list();
+
+        assertTrue(scratchSpec.validate(valid).isValid());
+        assertEquals(spec.validate(invalid).violations().list(), first);
+        assertEquals(first, scratchSpec.compile().validate(invalid).violations().list());
+    }
+
+    @Test
+    void withScratchBuffer__when_validating_reentrantly__then_inner_validation_uses_own_accumulator() {
+        var inner = spec.withScratchBuffer();
+        var outer = Valid.<Rec>validationSpec(rec -> rec.field("inner")
+                        .nonNull()
+                        .string(Rec::name, name -> name.check("inner spec failed", value -> inner.validate(
+                                        new Rec(value, null, new Nested("xyz"), null))
+                                .isValid())))
+                .withScratchBuffer();
+
+        var violations = outer.validate(new Rec("ABCDEF", null, null, null)).violations().list();
+
+        assertEquals(List.of(Violation.of("inner", "inner spec failed")), violations);
+    }
+}
@@ -0,0 +1,248 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ValidationProcessorTest implements FastTest {
+
+    private final ValidationSpec<String> spec =
+            Valid.validationSpec(root -> root.field("value").nonNull().string(value -> value, value -> value.length(3)));
+
+    @Test
+    void toProcessor__then_emits_one_result_per_item_in_upstream_order() throws Exception {
+        var items = items(1_000);
+
+        var results = run(spec.toProcessor(16), items);
+
+        assertResults(items, results);
+    }
+
+    @Test
+    void toProcessor__when_workers__then_order_is_preserved() throws Exception {
+        var items = items(5_000);
+        var workers = Executors.newFixedThreadPool(4);
+        try {
+            var results = run(spec.compile().toProcessor(7, workers, 4), items);
+
+            assertResults(items, results);
+        } finally {
+            workers.shutdown();
+        }
+    }
+
+    @Test
+    void toProcessor__then_requests_upstream_only_against_downstream_demand() {
+        var processor = spec.toProcessor(4);
+        var upstream = new RecordingSubscription();
+        var subscriber = new RecordingSubscriber();
+        processor.onSubscribe(upstream);
+        processor.subscribe(subscriber);
+
+        assertEquals(0, upstream.requested);
+
+        subscriber.subscription.request(3);
+        assertEquals(3, upstream.requested);
+        processor.onNext("ok1");
+        processor.onNext("ok2");
+        processor.onNext("bad");
+        assertEquals(3, subscriber.results.size());
+        assertEquals(3, upstream.requested);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(3 + 4, upstream.requested);
+    }
+
+    @Test
+    void toProcessor__when_workers__then_upstream_is_capped_by_in_flight_capacity() {
+        var pending = new ArrayList<Runnable>();
+        var processor = spec.toProcessor(2, pending::add, 3);
+        var upstream = new RecordingSubscription();
+        var subscriber = new RecordingSubscriber();
+        processor.onSubscribe(upstream);
+        processor.subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(6, upstream.requested);
+        for (var idx = 0; idx < 6; idx++) {
+            processor.onNext("ok" + idx);
+        }
+        assertEquals(3, pending.size());
+        assertEquals(6, upstream.requested);
+
+        pending.remove(0).run();
+        assertEquals(2, subscriber.results.size());
+        assertEquals(8, upstream.requested);
+    }
+
+    @Test
+    void toProcessor__when_upstream_publishes_before_subscriber__then_no_items_are_lost() throws Exception {
+        var processor = spec.toProcessor(3);
+        var items = items(10);
+        var upstream = new SubmissionPublisher<String>();
+        upstream.subscribe(processor);
+        items.forEach(upstream::submit);
+        upstream.close();
+
+        var subscriber = new RecordingSubscriber();
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        subscriber.done.get(30, TimeUnit.SECONDS);
+        assertResults(items, subscriber.results);
+    }
+
+    @Test
+    void toProcessor__when_upstream_fails__then_received_items_are_emitted_before_error() {
+        var processor = spec.toProcessor(8);
+        var upstream = new RecordingSubscription();
+        var subscriber = new RecordingSubscriber();
+        processor.onSubscribe(upstream);
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(5);
+
+        processor.onNext("ok1");
+        processor.onNext("bad");
+        var error = new IllegalStateException("upstream failed");
+        processor.onError(error);
+
+        assertResults(List.of("ok1", "bad"), subscriber.results);
+        assertSame(error, assertThrows(ExecutionException.class, subscriber.done::get).getCause());
+    }
+
+    @Test
+    void toProcessor__when_second_subscriber__then_it_is_rejected() {
+        var processor = spec.toProcessor(4);
+        processor.subscribe(new RecordingSubscriber());
+        var second = new RecordingSubscriber();
+
+        processor.subscribe(second);
+
+        var error = assertThrows(ExecutionException.class, second.done::get).getCause();
+        assertTrue(error instanceof IllegalStateException);
+    }
+
+    @Test
+    void toProcessor__when_downstream_cancels__then_upstream_is_cancelled() {
+        var processor = spec.toProcessor(4);
+        var upstream = new RecordingSubscription();
+        var subscriber = new RecordingSubscriber();
+        processor.onSubscribe(upstream);
+        processor.subscribe(subscriber);
+
+        subscriber.subscription.cancel();
+
+        assertTrue(upstream.cancelled);
+    }
+
+    private static final class RecordingSubscription implements Flow.Subscription {
+
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<Valid<String>> {
+
+        private final List<Valid<String>> results = new ArrayList<>();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Valid<String> item) {
+            results.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+    }
+
+    private static List<String> items(int count) {
+        var items = new ArrayList<String>(count);
+        for (var idx = 0; idx < count; idx++) {
+            items.add(idx % 3 == 0 ? "bad" + idx : "ok" + idx % 10);
+        }
+        return items;
+    }
+
+    private void assertResults(List<String> items, List<Valid<String>> results) {
+        assertEquals(items.size(), results.size());
+        for (var idx = 0; idx < items.size(); idx++) {
+            var expected = spec.validate(items.get(idx));
+            assertEquals(expected.isValid(), results.get(idx).isValid());
+            assertEquals(expected.violations().list(), results.get(idx).violations().list());
+        }
+    }
+
+    private static List<Valid<String>> run(Flow.Processor<String, Valid<String>> processor, List<String> items)
+            throws Exception {
+        var results = new ArrayList<Valid<String>>();
+        var done = new CompletableFuture<Void>();
+        processor.subscribe(new Flow.Subscriber<>() {
+
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Valid<String> item) {
+                results.add(item);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+        try (var upstream = new SubmissionPublisher<String>()) {
+            upstream.subscribe(processor);
+            items.forEach(upstream::submit);
+        }
+        done.get(30, TimeUnit.SECONDS);
+        assertTrue(done.isDone());
+        return results;
+    }
+}
@@ -0,0 +1,94 @@
+package com.varlanv.konstraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.varlanv.imp.commontest.FastTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ViolationsTest implements FastTest {
+
+    @Test
+    void add__when_appending_many__then_keeps_insertion_order() {
+        var expected = violations(0, 1_000);
+        var violations = Violations.create();
+        for (var violation : expected) {
+            violations = violations.add(violation);
+        }
+
+        assertEquals(expected, violations.list());
+    }
+
+    @Test
+    void add__when_appending_to_older_version__then_other_versions_are_unchanged() {
+        var base = Violations.of(violation(0), violation(1));
+        var left = base.add(violation(2));
+        var right = base.add(violation(3)).add(violation(4));
+
+        assertEquals(List.of(violation(0), violation(1)), base.list());
+        assertEquals(List.of(violation(0), violation(1), violation(2)), left.list());
+        assertEquals(List.of(violation(0), violation(1), violation(3), violation(4)), right.list());
+    }
+
+    @Test
+    void add__when_forking_across_chunk_boundaries__then_versions_stay_independent() {
+        var snapshots = new ArrayList<Violations>();
+        var violations = Violations.create();
+        for (var idx = 0; idx < 100; idx++) {
+            violations = violations.add(violation(idx));
+            snapshots.add(violations);
+        }
+        for (var idx = 0; idx < snapshots.size(); idx++) {
+            var forked = snapshots.get(idx).add(violation(-idx));
+            var expected = new ArrayList<>(violations(0, idx + 1));
+            expected.add(violation(-idx));
+
+            assertEquals(expected, forked.list());
+            assertEquals(violations(0, idx + 1), snapshots.get(idx).list());
+        }
+    }
+
+    @Test
+    void merge__should_concatenate_in_order() {
+        var left = Violations.of(violations(0, 10));
+        var right = Violations.of(violations(10, 25));
+
+        var merged = left.merge(right).add(violation(25)).merge(Violations.create());
+
+        assertEquals(violations(0, 26), merged.list());
+        assertEquals(violations(0, 10), left.list());
+        assertEquals(violations(10, 25), right.list());
+    }
+
+    @Test
+    void merge__when_merging_repeatedly__then_flattens_without_deep_recursion() {
+        var violations = Violations.create();
+        for (var idx = 0; idx < 50_000; idx++) {
+            violations = violations.merge(Violations.of(violation(idx)));
+        }
+
+        assertEquals(violations(0, 50_000), violations.list());
+    }
+
+    @Test
+    void list__should_be_unmodifiable() {
+        var violations = Violations.of(violation(0)).add(violation(1));
+
+        assertThrows(UnsupportedOperationException.class, () -> violations.list().add(violation(2)));
+        assertThrows(UnsupportedOperationException.class, () -> violations.list().remove(0));
+        assertTrue(Violations.create().merge(Violations.create()).isEmpty());
+    }
+
+    private static Violation violation(int idx) {
+        return Violation.of("field" + idx, "message" + idx);
+    }
+
+    private static List<Violation> violations(int from, int to) {
+        return IntStream.range(from, to).mapToObj(ViolationsTest::violation).collect(Collectors.toList());
+    }
+}
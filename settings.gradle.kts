@@ -36,6 +36,8 @@ includeBuild("internal-convention-plugin")
 include(
     listOf(
         "lib",
+        "lib-benchmarks",
+        "konstraints-processor",
         "common-test"
     )
 )